@@ -19,6 +19,7 @@ plugins {
     id("com.matthewprenger.cursegradle") version "1.4.0"
     id("com.modrinth.minotaur") version "2.+"
     id("com.harleyoconnor.autoupdatetool") version "1.0.9"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 repositories {
@@ -42,6 +43,12 @@ val mcVersion = property("mcVersion")
 version = "$mcVersion-$modVersion"
 group = property("group")
 
+// Development tools, such as the /dtbenchmodels command. These are loaded by the client run but not built into the jar.
+val dev: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.main.get().runtimeClasspath
+}
+
 minecraft {
     mappings(property("mappingsChannel"), property("mappingsVersion"))
     accessTransformer(file("src/main/resources/META-INF/accesstransformer.cfg"))
@@ -49,6 +56,9 @@ minecraft {
     runs {
         create("client") {
             applyDefaultConfiguration()
+            mods.named(modId.toString()) {
+                source(dev)
+            }
 
             if (project.hasProperty("mcUuid")) {
                 args("--uuid", property("mcUuid"))
@@ -103,6 +113,15 @@ dependencies {
     // runtimeOnly(fg.deobf("com.harleyoconnor.suggestionproviderfix:SuggestionProviderFix-1.19:${property("suggestionProviderFixVersion")}"))
 }
 
+jmh {
+    // Reports allocation per operation alongside the timings, and writes results in a form that can be tracked.
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    optionalProperty("jmhConnections")?.let {
+        jvmArgsAppend.add("-Ddynamictrees.benchmark.connections=${file(it).absolutePath}")
+    }
+}
+
 translationSheet {
     sheetId.set("1xjxEh2NdbeV_tQc6fDHPgcRmtchqCZJKt--6oifq1qc")
     sectionColour.set(0xF9CB9C)
@@ -0,0 +1,223 @@
+package com.ferreusveritas.dynamictrees.client;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
+import com.ferreusveritas.dynamictrees.models.modeldata.ModelConnections;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.BlockRenderDispatcher;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.client.event.RegisterClientCommandsEvent;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures how long the mod's own baked models take to build their quads, and how much they allocate doing so, for the
+ * blocks around the player. The block states and model data are recorded from the loaded world exactly as the chunk
+ * mesher would see them, then {@link BakedModel#getQuads} is called for every render type and side of each, the same
+ * way the mesher calls it. Results are given per model class, in ns per quad and bytes allocated per call, both in chat
+ * and in the log.
+ *
+ * <p>The connections of every branch recorded are also written to {@value #CONNECTIONS_FILE} in the game directory, in
+ * the format read by the headless {@code TreeModelBenchmark} in the {@code jmh} source set, so that it can be run
+ * against connections from real forests.</p>
+ *
+ * <p>Run with {@code /dtbenchmodels [radius] [iterations]} on the client. This is a development tool, so it is in the
+ * {@code dev} source set, which is loaded by the client run but not built into the mod jar.</p>
+ */
+@OnlyIn(Dist.CLIENT)
+@Mod.EventBusSubscriber(modid = DynamicTrees.MOD_ID, value = Dist.CLIENT)
+public final class ModelBenchmark {
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    public static final String CONNECTIONS_FILE = "dtbenchmodels-connections.txt";
+
+    private static final String COMMAND = "dtbenchmodels";
+    private static final String RADIUS = "radius";
+    private static final String ITERATIONS = "iterations";
+    private static final int DEFAULT_RADIUS = 16;
+    private static final int DEFAULT_ITERATIONS = 100;
+
+    private static final Direction[] SIDES = {null, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+
+    private ModelBenchmark() {
+    }
+
+    @SubscribeEvent
+    public static void onRegisterClientCommands(RegisterClientCommandsEvent event) {
+        register(event.getDispatcher());
+    }
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(COMMAND)
+                .executes(context -> run(context, DEFAULT_RADIUS, DEFAULT_ITERATIONS))
+                .then(Commands.argument(RADIUS, IntegerArgumentType.integer(1, 64))
+                        .executes(context -> run(context, IntegerArgumentType.getInteger(context, RADIUS), DEFAULT_ITERATIONS))
+                        .then(Commands.argument(ITERATIONS, IntegerArgumentType.integer(1, 10000))
+                                .executes(context -> run(context, IntegerArgumentType.getInteger(context, RADIUS),
+                                        IntegerArgumentType.getInteger(context, ITERATIONS))))));
+    }
+
+    private static int run(CommandContext<CommandSourceStack> context, int radius, int iterations) {
+        final Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft.level == null || minecraft.player == null) {
+            return 0;
+        }
+        final List<Sample> samples = record(minecraft.level, minecraft.player.blockPosition(), radius);
+        writeConnections(samples, FMLPaths.GAMEDIR.get().resolve(CONNECTIONS_FILE));
+        final List<Result> results = measure(samples, iterations);
+        LOGGER.info(String.format("%-40s %6s %10s %10s %12s", "Benchmark", "Cnt", "Calls", "ns/quad", "B/call"));
+        for (Result result : results) {
+            LOGGER.info(result.toString());
+            context.getSource().sendSuccess(() -> Component.literal(result.toString()), false);
+        }
+        if (results.isEmpty()) {
+            context.getSource().sendFailure(Component.literal("No " + DynamicTrees.MOD_ID + " models within " + radius + " blocks."));
+        }
+        return results.size();
+    }
+
+    /**
+     * Records the states and model data of the mod's models within the given radius of the given position, then times
+     * building their quads the given number of times over.
+     *
+     * @return the results for each model class found, in the order they were first found
+     */
+    public static List<Result> run(ClientLevel level, BlockPos centre, int radius, int iterations) {
+        return measure(record(level, centre, radius), iterations);
+    }
+
+    private static List<Result> measure(List<Sample> samples, int iterations) {
+        final Map<Class<?>, List<Sample>> byModel = new LinkedHashMap<>();
+        samples.forEach(sample -> byModel.computeIfAbsent(sample.model.getClass(), k -> new ArrayList<>()).add(sample));
+
+        final List<Result> results = new ArrayList<>();
+        final RandomSource random = RandomSource.create(42L);
+        byModel.forEach((modelClass, modelSamples) -> {
+            measure(modelSamples, random, Math.max(iterations / 10, 1)); // Warm up.
+            results.add(measure(modelSamples, random, iterations).named(modelClass.getSimpleName(), modelSamples.size()));
+        });
+        return results;
+    }
+
+    private static List<Sample> record(ClientLevel level, BlockPos centre, int radius) {
+        final BlockRenderDispatcher dispatcher = Minecraft.getInstance().getBlockRenderer();
+        final RandomSource random = RandomSource.create(42L);
+        final List<Sample> samples = new ArrayList<>();
+        for (BlockPos pos : BlockPos.betweenClosed(centre.offset(-radius, -radius, -radius), centre.offset(radius, radius, radius))) {
+            final BlockState state = level.getBlockState(pos);
+            final BakedModel model = dispatcher.getBlockModel(state);
+            if (!model.getClass().getName().startsWith("com.ferreusveritas.dynamictrees.")) {
+                continue;
+            }
+            final BlockPos immutablePos = pos.immutable();
+            final ModelData tileData = level.getModelDataManager().getAt(immutablePos);
+            final ModelData data = model.getModelData(level, immutablePos, state, tileData == null ? ModelData.EMPTY : tileData);
+            samples.add(new Sample(model, state, data, List.copyOf(model.getRenderTypes(state, random, data).asList())));
+        }
+        return samples;
+    }
+
+    /**
+     * Writes the radius and connection radii of each recorded branch to the given file, one branch per line as seven
+     * space separated integers: the radius, then the connections in {@link Direction#get3DDataValue()} order.
+     */
+    private static void writeConnections(List<Sample> samples, Path path) {
+        final List<String> lines = new ArrayList<>();
+        for (Sample sample : samples) {
+            final ModelConnections connections = sample.data.get(ModelConnections.CONNECTIONS_PROPERTY);
+            if (connections == null || !(sample.state.getBlock() instanceof BranchBlock branch)) {
+                continue;
+            }
+            final StringBuilder line = new StringBuilder().append(branch.getRadius(sample.state));
+            for (int connection : connections.getAllRadii()) {
+                line.append(' ').append(connection);
+            }
+            lines.add(line.toString());
+        }
+        try {
+            Files.write(path, lines);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write recorded branch connections to \"{}\".", path, e);
+        }
+    }
+
+    private static Result measure(List<Sample> samples, RandomSource random, int iterations) {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        final com.sun.management.ThreadMXBean allocationBean = threadBean instanceof com.sun.management.ThreadMXBean bean ? bean : null;
+        final long threadId = Thread.currentThread().getId();
+
+        long calls = 0;
+        long quads = 0;
+        final long startBytes = allocationBean == null ? 0 : allocationBean.getThreadAllocatedBytes(threadId);
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            for (Sample sample : samples) {
+                for (RenderType renderType : sample.renderTypes) {
+                    for (Direction side : SIDES) {
+                        quads += sample.model.getQuads(sample.state, side, random, sample.data, renderType).size();
+                        calls++;
+                    }
+                }
+            }
+        }
+        final long nanos = System.nanoTime() - startTime;
+        final long bytes = allocationBean == null ? -1 : allocationBean.getThreadAllocatedBytes(threadId) - startBytes;
+        return new Result("", 0, calls, quads, nanos, bytes);
+    }
+
+    private record Sample(BakedModel model, BlockState state, ModelData data, List<RenderType> renderTypes) {
+    }
+
+    public record Result(String model, int samples, long calls, long quads, long nanos, long bytes) {
+        private Result named(String model, int samples) {
+            return new Result(model, samples, this.calls, this.quads, this.nanos, this.bytes);
+        }
+
+        public double nanosPerQuad() {
+            return this.quads == 0 ? Double.NaN : this.nanos / (double) this.quads;
+        }
+
+        /**
+         * @return the bytes allocated per call, or {@code -1} if the JVM can't measure allocation
+         */
+        public double bytesPerCall() {
+            return this.bytes < 0 || this.calls == 0 ? -1 : this.bytes / (double) this.calls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %6d %10d %10.2f %12.1f", this.model + ".getQuads", this.samples, this.calls,
+                    this.nanosPerQuad(), this.bytesPerCall());
+        }
+    }
+
+}
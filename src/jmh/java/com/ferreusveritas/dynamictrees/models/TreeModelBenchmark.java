@@ -0,0 +1,280 @@
+package com.ferreusveritas.dynamictrees.models;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.block.branch.BasicRootsBlock;
+import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
+import com.ferreusveritas.dynamictrees.block.branch.SurfaceRootBlock;
+import com.ferreusveritas.dynamictrees.block.branch.ThickBranchBlock;
+import com.ferreusveritas.dynamictrees.block.leaves.LeavesProperties;
+import com.ferreusveritas.dynamictrees.block.leaves.PalmLeavesProperties;
+import com.ferreusveritas.dynamictrees.models.loader.BranchBlockModelLoader;
+import com.ferreusveritas.dynamictrees.models.loader.PalmLeavesModelLoader;
+import com.ferreusveritas.dynamictrees.models.loader.RootsBlockModelLoader;
+import com.ferreusveritas.dynamictrees.models.loader.SurfaceRootBlockModelLoader;
+import com.ferreusveritas.dynamictrees.models.loader.ThickBranchBlockModelLoader;
+import com.ferreusveritas.dynamictrees.models.modeldata.ModelConnections;
+import com.ferreusveritas.dynamictrees.tree.family.Family;
+import com.ferreusveritas.dynamictrees.util.CoordUtils;
+import com.ferreusveritas.dynamictrees.util.RootConnections;
+import com.google.gson.JsonObject;
+import com.mojang.blaze3d.platform.NativeImage;
+import net.minecraft.SharedConstants;
+import net.minecraft.client.renderer.block.model.ItemOverrides;
+import net.minecraft.client.renderer.texture.SpriteContents;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.metadata.animation.AnimationMetadataSection;
+import net.minecraft.client.resources.metadata.animation.FrameSize;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.client.resources.model.BlockModelRotation;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.inventory.InventoryMenu;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.MapColor;
+import net.minecraftforge.client.model.data.ModelData;
+import net.minecraftforge.client.model.geometry.IGeometryLoader;
+import net.minecraftforge.client.model.geometry.StandaloneGeometryBakingContext;
+import net.minecraftforge.registries.GameData;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BakedModel#getQuads} of the mod's tree models headlessly, without a GPU or a running client. The
+ * models are read and baked through the same loaders as in game, but against a stubbed 16x16 sprite rather than the
+ * block atlas. One benchmark runs for each of these loaders:
+ * <ul>
+ *     <li>{@code branch}: {@link BranchBlockModelLoader}</li>
+ *     <li>{@code thick_branch}: {@link ThickBranchBlockModelLoader}</li>
+ *     <li>{@code roots}: {@link RootsBlockModelLoader}</li>
+ *     <li>{@code surface_root}: {@link SurfaceRootBlockModelLoader}</li>
+ *     <li>{@code palm_fronds}: {@link PalmLeavesModelLoader}</li>
+ * </ul>
+ * The bonsai pot model is left out. It has no geometry of its own, and gets the pot and sapling models from the
+ * client's block renderer, which only exists in a running client. {@code /dtbenchmodels} measures it in game.
+ *
+ * <p>Each operation builds the quads of one block, calling {@code getQuads} for every side and for no side, the way
+ * the chunk mesher does. With the {@code gc} profiler that the {@code jmh} task enables, the time and
+ * {@code gc.alloc.rate.norm} are both per block, and the {@code quads} counter gives the time per quad. The
+ * connections fed to the branch and root models are read from the file given by the {@value #CONNECTIONS_PROPERTY}
+ * system property. The {@code jmh} task sets it when run with {@code -PjmhConnections=<file>}, given a file that
+ * {@code /dtbenchmodels} wrote in a real forest. Without one a fixed synthetic distribution is used, so that results
+ * stay comparable between runs.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeModelBenchmark {
+
+    public static final String CONNECTIONS_PROPERTY = "dynamictrees.benchmark.connections";
+
+    /** The number of blocks sampled from the distribution, each of which is one operation. */
+    private static final int SAMPLES = 1024;
+
+    private static final Direction[] SIDES = {null, Direction.DOWN, Direction.UP, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+
+    @Param({"branch", "thick_branch", "roots", "surface_root", "palm_fronds"})
+    public String loader;
+
+    private final RandomSource random = RandomSource.create(42L);
+    private BakedModel model;
+    private BlockState[] states;
+    private ModelData[] data;
+
+    @Setup
+    public void setup() throws IOException {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        // Blocks can only be created while the registries are unfrozen.
+        GameData.unfreezeData();
+
+        final JsonObject textures = new JsonObject();
+        textures.addProperty("bark", "minecraft:block/oak_log");
+        textures.addProperty("rings", "minecraft:block/oak_log_top");
+        textures.addProperty("frond", "minecraft:block/oak_leaves");
+        this.model = bake(switch (this.loader) {
+            case "thick_branch" -> new ThickBranchBlockModelLoader();
+            case "roots" -> new RootsBlockModelLoader();
+            case "surface_root" -> new SurfaceRootBlockModelLoader();
+            case "palm_fronds" -> new PalmLeavesModelLoader(0);
+            default -> new BranchBlockModelLoader();
+        }, textures);
+
+        final List<int[]> distribution = readDistribution();
+        this.states = new BlockState[SAMPLES];
+        this.data = new ModelData[SAMPLES];
+        final RandomSource sampleRandom = RandomSource.create(42L);
+        switch (this.loader) {
+            case "surface_root" -> sampleSurfaceRoots(distribution, sampleRandom);
+            case "palm_fronds" -> samplePalmFronds(sampleRandom);
+            default -> sampleBranches(distribution, sampleRandom);
+        }
+    }
+
+    private static BakedModel bake(IGeometryLoader<?> loader, JsonObject textures) {
+        final JsonObject json = new JsonObject();
+        json.add("textures", textures);
+        final ResourceLocation modelLocation = DynamicTrees.location("block/benchmark");
+        return loader.read(json, null).bake(StandaloneGeometryBakingContext.create(modelLocation), null,
+                material -> stubSprite(), BlockModelRotation.X0_Y0, ItemOverrides.EMPTY, modelLocation);
+    }
+
+    private static TextureAtlasSprite stubSprite() {
+        final SpriteContents contents = new SpriteContents(DynamicTrees.location("benchmark"), new FrameSize(16, 16),
+                new NativeImage(16, 16, false), AnimationMetadataSection.EMPTY);
+        return new TextureAtlasSprite(InventoryMenu.BLOCK_ATLAS, contents, 16, 16, 0, 0) {
+        };
+    }
+
+    private void sampleBranches(List<int[]> distribution, RandomSource sampleRandom) {
+        final BranchBlock block = this.loader.equals("roots")
+                ? new BasicRootsBlock(DynamicTrees.location("benchmark_roots"), BlockBehaviour.Properties.of())
+                : new ThickBranchBlock(DynamicTrees.location("benchmark"), MapColor.WOOD);
+        final boolean thick = this.loader.equals("thick_branch");
+        for (int i = 0; i < SAMPLES; i++) {
+            final int[] branch = distribution.get(sampleRandom.nextInt(distribution.size()));
+            final int radius = thick ? branch[0] : Math.min(branch[0], BranchBlock.MAX_RADIUS);
+            final int[] connections = new int[Direction.values().length];
+            for (int side = 0; side < connections.length; side++) {
+                connections[side] = thick ? branch[side + 1] : Math.min(branch[side + 1], BranchBlock.MAX_RADIUS);
+            }
+            this.states[i] = block.getStateForRadius(radius);
+            this.data[i] = new ModelConnections(connections).toModelData();
+        }
+    }
+
+    /**
+     * Surface roots are sampled from the horizontal connections of the distribution, grounded, and mostly level with
+     * their neighbours.
+     */
+    private void sampleSurfaceRoots(List<int[]> distribution, RandomSource sampleRandom) {
+        final SurfaceRootBlock block = new SurfaceRootBlock(Family.NULL_FAMILY);
+        for (int i = 0; i < SAMPLES; i++) {
+            final int[] branch = distribution.get(sampleRandom.nextInt(distribution.size()));
+            final RootConnections connections = new RootConnections();
+            for (Direction dir : CoordUtils.HORIZONTALS) {
+                connections.setRadius(dir, Math.min(branch[dir.get3DDataValue() + 1], SurfaceRootBlock.MAX_RADIUS));
+                final int level = sampleRandom.nextInt(8);
+                connections.setConnectionLevel(dir, level == 0 ? RootConnections.ConnectionLevel.LOW :
+                        level == 1 ? RootConnections.ConnectionLevel.HIGH : RootConnections.ConnectionLevel.MID);
+            }
+            this.states[i] = block.getStateForRadius(Math.min(branch[0], SurfaceRootBlock.MAX_RADIUS))
+                    .setValue(SurfaceRootBlock.GROUNDED, true);
+            this.data[i] = ModelData.builder().with(RootConnections.ROOT_CONNECTIONS_PROPERTY, connections).build();
+        }
+    }
+
+    /**
+     * Palm fronds have no model data, only the direction of the frond in their state, so each direction is sampled
+     * evenly.
+     */
+    private void samplePalmFronds(RandomSource sampleRandom) {
+        final PalmLeavesProperties.DynamicPalmLeavesBlock block =
+                new PalmLeavesProperties.DynamicPalmLeavesBlock(LeavesProperties.NULL, BlockBehaviour.Properties.of());
+        for (int i = 0; i < SAMPLES; i++) {
+            this.states[i] = block.defaultBlockState()
+                    .setValue(PalmLeavesProperties.DynamicPalmLeavesBlock.DIRECTION, 1 + sampleRandom.nextInt(8));
+            this.data[i] = ModelData.EMPTY;
+        }
+    }
+
+    /**
+     * @return the radius and connection radii of each branch in the distribution, as written by
+     * {@code /dtbenchmodels}
+     */
+    private static List<int[]> readDistribution() throws IOException {
+        final String file = System.getProperty(CONNECTIONS_PROPERTY);
+        if (file == null) {
+            return syntheticDistribution();
+        }
+        final List<int[]> distribution = new ArrayList<>();
+        for (String line : Files.readAllLines(Path.of(file))) {
+            final String[] values = line.trim().split(" ");
+            if (values.length != 7) {
+                continue;
+            }
+            final int[] branch = new int[7];
+            for (int i = 0; i < branch.length; i++) {
+                branch[i] = Integer.parseInt(values[i]);
+            }
+            distribution.add(branch);
+        }
+        if (distribution.isEmpty()) {
+            throw new IOException("No branch connections in \"" + file + "\".");
+        }
+        return distribution;
+    }
+
+    /**
+     * @return a fixed distribution that is mostly twigs, with fewer limbs and few trunks, roughly as in a forest
+     */
+    private static List<int[]> syntheticDistribution() {
+        final RandomSource random = RandomSource.create(42L);
+        final List<int[]> distribution = new ArrayList<>();
+        for (int i = 0; i < 256; i++) {
+            final int radius = i < 160 ? 1 : i < 224 ? 2 + random.nextInt(5) : 8 + random.nextInt(17);
+            final int[] branch = new int[7];
+            branch[0] = radius;
+            branch[Direction.DOWN.get3DDataValue() + 1] = radius;
+            for (Direction side : Direction.values()) {
+                if (side != Direction.DOWN && random.nextInt(3) == 0) {
+                    branch[side.get3DDataValue() + 1] = 1 + random.nextInt(radius);
+                }
+            }
+            distribution.add(branch);
+        }
+        return distribution;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public void getQuads(QuadCounter counter, Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            for (Direction side : SIDES) {
+                final List<?> quads = this.model.getQuads(this.states[i], side, this.random, this.data[i], null);
+                counter.quads += quads.size();
+                blackhole.consume(quads);
+            }
+        }
+    }
+
+    /**
+     * Counts the quads built, which in {@link Mode#AverageTime} JMH reports as the time per quad.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class QuadCounter {
+        public long quads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.quads = 0;
+        }
+    }
+
+}
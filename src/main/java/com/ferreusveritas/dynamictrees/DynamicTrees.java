@@ -62,6 +62,11 @@ public final class DynamicTrees {
         OVERFLOW
     }
 
+    public enum DropDelivery {
+        WORLD,
+        INVENTORY
+    }
+
     public enum SwampOakWaterState {
         ROOTED,
         SUNK,
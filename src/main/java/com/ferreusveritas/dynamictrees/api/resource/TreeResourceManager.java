@@ -20,6 +20,20 @@ public interface TreeResourceManager extends net.minecraft.server.packs.resource
 
     void addLoaderAfter(ResourceLoader<?> loader, ResourceLoader<?> existing);
 
+    /**
+     * Declares that the given loader must only be applied once all of the given dependencies have been applied. Loaders
+     * that never have dependencies declared are treated as ordering barriers, being applied strictly after every
+     * loader before them and before every loader after them, as loaders were applied prior to dependencies existing.
+     * Preparation (reading and parsing files) of all loaders runs concurrently regardless.
+     *
+     * <p>Does nothing by default, leaving every loader as an ordering barrier.</p>
+     *
+     * @param loader       the dependent loader
+     * @param dependencies the loaders that must be applied first
+     */
+    default void addDependencies(ResourceLoader<?> loader, ResourceLoader<?>... dependencies) {
+    }
+
     void registerAppliers();
 
     void load();
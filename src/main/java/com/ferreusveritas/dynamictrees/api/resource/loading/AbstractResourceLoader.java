@@ -20,42 +20,38 @@ public abstract class AbstractResourceLoader<R> implements ResourceLoader<R> {
 
     @Override
     public final CompletableFuture<Void> gatherData(ResourceManager resourceManager) {
-        return CompletableFuture.supplyAsync(
-                        () -> this.resourcePreparer.prepare(resourceManager),
-                        Util.backgroundExecutor()
-        ).thenAccept(preparedObject ->
+        return this.prepare(resourceManager).thenAccept(preparedObject ->
                 this.applyOnGatherData(preparedObject, resourceManager)
         );
     }
 
     @Override
     public final CompletableFuture<Void> load(ResourceManager resourceManager) {
-        return CompletableFuture.supplyAsync(
-                () -> this.resourcePreparer.prepare(resourceManager),
-                Util.backgroundExecutor()
-        ).thenAccept(preparedObject ->
+        return this.prepare(resourceManager).thenAccept(preparedObject ->
                 this.applyOnLoad(preparedObject, resourceManager)
         );
     }
 
     @Override
     public final CompletableFuture<Void> setup(ResourceManager resourceManager) {
-        return CompletableFuture.supplyAsync(
-                () -> this.resourcePreparer.prepare(resourceManager),
-                Util.backgroundExecutor()
-        ).thenAccept(preparedObject ->
+        return this.prepare(resourceManager).thenAccept(preparedObject ->
                 this.applyOnSetup(preparedObject, resourceManager)
         );
     }
 
     @Override
-    public CompletableFuture<ResourceAccessor<R>> prepareReload(ResourceManager resourceManager) {
+    public CompletableFuture<ResourceAccessor<R>> prepare(ResourceManager resourceManager) {
         return CompletableFuture.supplyAsync(
                 () -> this.resourcePreparer.prepare(resourceManager),
                 Util.backgroundExecutor()
         );
     }
 
+    @Override
+    public CompletableFuture<ResourceAccessor<R>> prepareReload(ResourceManager resourceManager) {
+        return this.prepare(resourceManager);
+    }
+
     @Override
     public final void reload(CompletableFuture<ResourceAccessor<R>> future,
                                                 ResourceManager resourceManager) {
@@ -16,6 +16,20 @@ public interface ResourceLoader<R> {
 
     CompletableFuture<Void> setup(ResourceManager resourceManager);
 
+    /**
+     * Reads and prepares the resources for this loader without applying them. This may run concurrently with the
+     * preparation of other loaders, so must not mutate any registries.
+     *
+     * <p>Defaults to {@link #prepareReload(ResourceManager)}, which already prepares without applying, so that
+     * existing implementations need not change.</p>
+     *
+     * @param resourceManager the resource manager to read from
+     * @return a future completing with the prepared resources
+     */
+    default CompletableFuture<ResourceAccessor<R>> prepare(ResourceManager resourceManager) {
+        return this.prepareReload(resourceManager);
+    }
+
     CompletableFuture<ResourceAccessor<R>> prepareReload(ResourceManager resourceManager);
 
     void reload(CompletableFuture<ResourceAccessor<R>> future, ResourceManager resourceManager);
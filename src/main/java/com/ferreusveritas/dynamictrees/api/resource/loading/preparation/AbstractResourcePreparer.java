@@ -1,5 +1,6 @@
 package com.ferreusveritas.dynamictrees.api.resource.loading.preparation;
 
+import com.ferreusveritas.dynamictrees.api.resource.DTResource;
 import com.ferreusveritas.dynamictrees.api.resource.ResourceAccessor;
 import com.ferreusveritas.dynamictrees.api.resource.ResourceCollector;
 import com.mojang.logging.LogUtils;
@@ -8,6 +9,7 @@ import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
 import org.slf4j.Logger;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Map;
 
@@ -31,20 +33,68 @@ public abstract class AbstractResourcePreparer<R> implements ResourcePreparer<R>
 
     @Override
     public ResourceAccessor<R> prepare(ResourceManager resourceManager) {
-        this.readAndPutResources(resourceManager, this.collectResources(resourceManager));
-        ResourceAccessor<R> accessor = this.resourceCollector.createAccessor();
+        final Map<ResourceLocation, Resource> resources = this.collectResources(resourceManager);
+        final PreparedResourceCodec<R> cacheCodec = this.getCacheCodec();
+        if (cacheCodec == null || !PreparedResourceCache.isEnabled()) {
+            this.readAndPutResources(resourceManager, resources);
+            return this.createAccessor();
+        }
+        return this.prepareCached(resourceManager, resources, new PreparedResourceCache<>(this.folderName + this.extension, cacheCodec));
+    }
+
+    private ResourceAccessor<R> prepareCached(ResourceManager resourceManager, Map<ResourceLocation, Resource> resources,
+                                              PreparedResourceCache<R> cache) {
+        final byte[] key = cache.computeKey(this.getClass(), resources);
+        if (key != null && cache.readInto(key, this.resourceCollector)) {
+            return this.createAccessor();
+        }
+
+        this.readAndPutResources(resourceManager, resources);
+        final ResourceAccessor<R> accessor = this.createAccessor();
+        // Only cache when every file was prepared, so that errors are still reported on the next start.
+        if (key != null && this.countResources(accessor) == resources.size()) {
+            cache.write(key, accessor);
+        }
+        return accessor;
+    }
+
+    private ResourceAccessor<R> createAccessor() {
+        final ResourceAccessor<R> accessor = this.resourceCollector.createAccessor();
         this.resourceCollector.clear(); // Refresh collector for future use.
         return accessor;
     }
 
+    private int countResources(ResourceAccessor<R> accessor) {
+        int count = 0;
+        for (DTResource<R> ignored : accessor.getAllResources()) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the codec used to store resources prepared by this preparer in a {@link PreparedResourceCache}, or
+     * {@code null} if they should not be cached.
+     */
+    @Nullable
+    protected PreparedResourceCodec<R> getCacheCodec() {
+        return null;
+    }
+
     protected Map<ResourceLocation, Resource> collectResources(ResourceManager resourceManager) {
         return resourceManager.listResources(this.folderName, (fileName) -> fileName.getPath().endsWith(this.extension));
     }
 
+    /**
+     * Reads and parses each resource in parallel. When called from {@link net.minecraft.Util#backgroundExecutor()}
+     * (as loaders do) the work is forked across that fork-join pool. The {@link ResourceCollector} must therefore be
+     * thread-safe, which those created from {@link ResourceCollector#ordered()} and
+     * {@link ResourceCollector#unordered()} are.
+     */
     protected void readAndPutResources(ResourceManager resourceManager, Map<ResourceLocation, Resource> resourceMap) {
-        resourceMap.forEach((location, resource) -> {
-            final ResourceLocation resourceName = this.getResourceName(location);
-            this.tryReadAndPutResource(resource, location, resourceName);
+        resourceMap.entrySet().parallelStream().forEach(entry -> {
+            final ResourceLocation resourceName = this.getResourceName(entry.getKey());
+            this.tryReadAndPutResource(entry.getValue(), entry.getKey(), resourceName);
         });
     }
 
@@ -29,6 +29,11 @@ public final class JsonResourcePreparer extends AbstractResourcePreparer<JsonEle
         super(folderName, JSON_EXTENSION, resourceCollector);
     }
 
+    @Override
+    protected PreparedResourceCodec<JsonElement> getCacheCodec() {
+        return PreparedResourceCodec.JSON;
+    }
+
     @Override
     protected void readAndPutResource(Resource resource, ResourceLocation resourceName) throws PreparationException, IOException {
         final JsonElement jsonElement = readResource(resource);
@@ -30,7 +30,7 @@ public final class MultiJsonResourcePreparer extends
 
     @Override
     protected void readAndPutResources(ResourceManager resourceManager, Map<ResourceLocation, Resource> resourceMap) {
-        resourceMap.forEach((location, resource) -> {
+        resourceMap.keySet().parallelStream().forEach(location -> {
             final ResourceLocation resourceName = this.getResourceName(location);
             this.tryReadAndPutResource(resourceManager, location, resourceName);
         });
@@ -0,0 +1,196 @@
+package com.ferreusveritas.dynamictrees.api.resource.loading.preparation;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.api.resource.DTResource;
+import com.ferreusveritas.dynamictrees.api.resource.ResourceAccessor;
+import com.ferreusveritas.dynamictrees.api.resource.ResourceCollector;
+import com.mojang.logging.LogUtils;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.Resource;
+import net.minecraftforge.fml.ModList;
+import net.minecraftforge.fml.loading.FMLPaths;
+import org.slf4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * An on-disk cache of the resources prepared by an {@link AbstractResourcePreparer}, stored in the binary format
+ * defined by a {@link PreparedResourceCodec}. Each cache is keyed by a SHA-256 hash of the contents of every file the
+ * preparer would read from the tree packs, along with the preparer type and Dynamic Trees version, so any change to a
+ * tree pack falls back to parsing the files as normal and rewrites the cache.
+ *
+ * <p>The cache can be disabled by launching with {@code -Ddynamictrees.preparedResourceCache=false}.</p>
+ *
+ * @param <R> the type of the prepared resource object
+ */
+public final class PreparedResourceCache<R> {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAGIC = 0x44545043; // "DTPC"
+    private static final int FORMAT_VERSION = 1;
+    private static final int KEY_LENGTH = 32;
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("dynamictrees.preparedResourceCache", "true"));
+
+    private final Path path;
+    private final String identifier;
+    private final PreparedResourceCodec<R> codec;
+
+    public PreparedResourceCache(String identifier, PreparedResourceCodec<R> codec) {
+        this.path = FMLPaths.GAMEDIR.get().resolve(".cache").resolve(DynamicTrees.MOD_ID)
+                .resolve(identifier.replace('/', '_') + ".bin");
+        this.identifier = identifier;
+        this.codec = codec;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Computes the key for the given resources by hashing their locations and raw contents in a stable order.
+     *
+     * @param preparerType the class of the preparer, so different preparers of the same folder don't collide
+     * @param resources    the resources the preparer would read
+     * @return the key, or {@code null} if any resource could not be read
+     */
+    @Nullable
+    public byte[] computeKey(Class<?> preparerType, Map<ResourceLocation, Resource> resources) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(getModVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(preparerType.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update(this.identifier.getBytes(StandardCharsets.UTF_8));
+
+            final List<Map.Entry<ResourceLocation, Resource>> sorted = resources.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(ResourceLocation::toString)))
+                    .collect(Collectors.toList());
+            for (Map.Entry<ResourceLocation, Resource> entry : sorted) {
+                digest.update(entry.getKey().toString().getBytes(StandardCharsets.UTF_8));
+                try (InputStream stream = entry.getValue().open()) {
+                    final byte[] contents = stream.readAllBytes();
+                    digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(contents.length).array());
+                    digest.update(contents);
+                }
+            }
+            return digest.digest();
+        } catch (IOException | NoSuchAlgorithmException e) {
+            LOGGER.debug("Could not compute prepared resource cache key for \"{}\".", this.identifier, e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the cache into the given collector if it exists and was written for the given key.
+     *
+     * @return {@code true} if the cache was read, or {@code false} if the resources must be prepared from the packs
+     */
+    public boolean readInto(byte[] key, ResourceCollector<R> collector) {
+        if (!Files.isRegularFile(this.path)) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            // The header is checked before reading the rest, so a stale cache costs only a few bytes to reject. The file
+            // is read onto the heap rather than mapped, as a live mapping would stop it being replaced on Windows.
+            final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2 + KEY_LENGTH);
+            if (!readFully(channel, header) || header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                return false;
+            }
+            final byte[] storedKey = new byte[KEY_LENGTH];
+            header.get(storedKey);
+            if (!Arrays.equals(key, storedKey)) {
+                return false;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size() - channel.position()));
+            if (!readFully(channel, buffer)) {
+                throw new IOException("Unexpected end of file");
+            }
+            final int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                final ResourceLocation name = new ResourceLocation(PreparedResourceCodec.readString(buffer),
+                        PreparedResourceCodec.readString(buffer));
+                collector.put(new DTResource<>(name, this.codec.read(buffer)));
+            }
+            LOGGER.debug("Read {} prepared \"{}\" resources from cache.", count, this.identifier);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            // A truncated or corrupt cache is simply rebuilt, but anything partially read must be discarded.
+            collector.clear();
+            LOGGER.warn("Could not read prepared resource cache \"{}\", it will be rebuilt.", this.path, e);
+            return false;
+        }
+    }
+
+    /**
+     * Reads from the channel until the buffer is full, then flips it for reading.
+     *
+     * @return {@code false} if the end of the channel was reached first
+     */
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+
+    /**
+     * Writes the given prepared resources to the cache under the given key. The file is written to a temporary file
+     * first and then moved into place, so an interrupted write never leaves a cache that looks valid.
+     */
+    public void write(byte[] key, ResourceAccessor<R> accessor) {
+        try {
+            Files.createDirectories(this.path.getParent());
+            final Path tempPath = this.path.resolveSibling(this.path.getFileName() + ".tmp");
+
+            int count = 0;
+            for (DTResource<R> ignored : accessor.getAllResources()) {
+                count++;
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.write(key);
+                output.writeInt(count);
+                for (DTResource<R> resource : accessor.getAllResources()) {
+                    PreparedResourceCodec.writeString(output, resource.getLocation().getNamespace());
+                    PreparedResourceCodec.writeString(output, resource.getLocation().getPath());
+                    this.codec.write(output, resource.getResource());
+                }
+            }
+            Files.move(tempPath, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write prepared resource cache \"{}\".", this.path, e);
+        }
+    }
+
+    private static String getModVersion() {
+        return ModList.get().getModContainerById(DynamicTrees.MOD_ID)
+                .map(container -> container.getModInfo().getVersion().toString())
+                .orElse("unknown");
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.ferreusveritas.dynamictrees.api.resource.loading.preparation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.internal.LazilyParsedNumber;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes prepared resource objects to, and reads them back from, the compact binary format used by the
+ * {@link PreparedResourceCache}.
+ *
+ * @param <R> the type of the prepared resource object
+ */
+public interface PreparedResourceCodec<R> {
+
+    void write(DataOutput output, R resource) throws IOException;
+
+    R read(ByteBuffer buffer);
+
+    /**
+     * Encodes Json trees with a one byte tag per element. Numbers are stored as their original text so that they are
+     * read back exactly as Gson parsed them.
+     */
+    PreparedResourceCodec<JsonElement> JSON = new PreparedResourceCodec<>() {
+        private static final byte NULL = 0;
+        private static final byte BOOLEAN = 1;
+        private static final byte NUMBER = 2;
+        private static final byte STRING = 3;
+        private static final byte ARRAY = 4;
+        private static final byte OBJECT = 5;
+
+        @Override
+        public void write(DataOutput output, JsonElement element) throws IOException {
+            if (element.isJsonObject()) {
+                final JsonObject object = element.getAsJsonObject();
+                output.writeByte(OBJECT);
+                output.writeInt(object.size());
+                for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                    writeString(output, entry.getKey());
+                    this.write(output, entry.getValue());
+                }
+            } else if (element.isJsonArray()) {
+                final JsonArray array = element.getAsJsonArray();
+                output.writeByte(ARRAY);
+                output.writeInt(array.size());
+                for (JsonElement child : array) {
+                    this.write(output, child);
+                }
+            } else if (element.isJsonPrimitive()) {
+                final JsonPrimitive primitive = element.getAsJsonPrimitive();
+                if (primitive.isBoolean()) {
+                    output.writeByte(BOOLEAN);
+                    output.writeBoolean(primitive.getAsBoolean());
+                } else if (primitive.isNumber()) {
+                    output.writeByte(NUMBER);
+                    writeString(output, primitive.getAsNumber().toString());
+                } else {
+                    output.writeByte(STRING);
+                    writeString(output, primitive.getAsString());
+                }
+            } else {
+                output.writeByte(NULL);
+            }
+        }
+
+        @Override
+        public JsonElement read(ByteBuffer buffer) {
+            final byte tag = buffer.get();
+            switch (tag) {
+                case OBJECT -> {
+                    final JsonObject object = new JsonObject();
+                    final int size = buffer.getInt();
+                    for (int i = 0; i < size; i++) {
+                        final String key = readString(buffer);
+                        object.add(key, this.read(buffer));
+                    }
+                    return object;
+                }
+                case ARRAY -> {
+                    final int size = buffer.getInt();
+                    final JsonArray array = new JsonArray(size);
+                    for (int i = 0; i < size; i++) {
+                        array.add(this.read(buffer));
+                    }
+                    return array;
+                }
+                case BOOLEAN -> {
+                    return new JsonPrimitive(buffer.get() != 0);
+                }
+                case NUMBER -> {
+                    return new JsonPrimitive(new LazilyParsedNumber(readString(buffer)));
+                }
+                case STRING -> {
+                    return new JsonPrimitive(readString(buffer));
+                }
+                case NULL -> {
+                    return JsonNull.INSTANCE;
+                }
+                default -> throw new IllegalStateException("Unknown Json tag " + tag + " in prepared resource cache.");
+            }
+        }
+    };
+
+    /**
+     * Encodes lists of text lines, as prepared by {@link TextResourcePreparer}.
+     */
+    PreparedResourceCodec<List<String>> LINES = new PreparedResourceCodec<>() {
+        @Override
+        public void write(DataOutput output, List<String> lines) throws IOException {
+            output.writeInt(lines.size());
+            for (String line : lines) {
+                writeString(output, line);
+            }
+        }
+
+        @Override
+        public List<String> read(ByteBuffer buffer) {
+            final int size = buffer.getInt();
+            final List<String> lines = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                lines.add(readString(buffer));
+            }
+            return lines;
+        }
+    };
+
+    /**
+     * Writes a length-prefixed UTF-8 string. Unlike {@link DataOutput#writeUTF(String)} this has no 64KiB limit.
+     */
+    static void writeString(DataOutput output, String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
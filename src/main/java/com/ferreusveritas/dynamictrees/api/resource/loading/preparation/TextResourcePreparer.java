@@ -23,6 +23,11 @@ public class TextResourcePreparer extends AbstractResourcePreparer<List<String>>
         super(folderName, EXTENSION, resourceCollector);
     }
 
+    @Override
+    protected PreparedResourceCodec<List<String>> getCacheCodec() {
+        return PreparedResourceCodec.LINES;
+    }
+
     @Override
     protected void readAndPutResource(Resource resource, ResourceLocation resourceName)
             throws IOException {
@@ -3,12 +3,28 @@ package com.ferreusveritas.dynamictrees.api.worldgen;
 
 import com.ferreusveritas.dynamictrees.systems.poissondisc.PoissonDisc;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 public interface PoissonDiscProvider {
 
     List<PoissonDisc> getPoissonDiscs(int chunkX, int chunkY, int chunkZ);
 
+    /**
+     * Gets the disc centred on the given block, generating the discs of its chunk first if necessary.
+     *
+     * @return the disc, or {@code null} if no disc is centred on the block
+     */
+    @Nullable
+    default PoissonDisc getPoissonDiscAt(int x, int z) {
+        for (PoissonDisc disc : getPoissonDiscs(x >> 4, 0, z >> 4)) {
+            if (disc.x == x && disc.z == z) {
+                return disc;
+            }
+        }
+        return null;
+    }
+
     byte[] getChunkPoissonData(int chunkX, int chunkY, int chunkZ);
 
     void setChunkPoissonData(int chunkX, int chunkY, int chunkZ, byte[] circleData);
@@ -2,6 +2,8 @@ package com.ferreusveritas.dynamictrees.block;
 
 import com.ferreusveritas.dynamictrees.compat.season.SeasonHelper;
 import com.ferreusveritas.dynamictrees.systems.fruit.Fruit;
+import com.ferreusveritas.dynamictrees.systems.substance.HarvestSubstance;
+import com.ferreusveritas.dynamictrees.systems.substance.LingeringEffectScheduler;
 import com.ferreusveritas.dynamictrees.util.LevelContext;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
@@ -137,6 +139,26 @@ public class FruitBlock extends Block implements BonemealableBlock, GrowableBloc
         super.neighborChanged(state, level, pos, block, fromPos, isMoving);
     }
 
+    @SuppressWarnings("deprecation")
+    @Override
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (!oldState.is(this)) {
+            LingeringEffectScheduler.forEachEffect(level, HarvestSubstance.class,
+                    (rootPos, harvest) -> harvest.onFruitPlaced(pos, this));
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        super.onRemove(state, level, pos, newState, isMoving);
+        if (!newState.is(this)) {
+            LingeringEffectScheduler.forEachEffect(level, HarvestSubstance.class,
+                    (rootPos, harvest) -> harvest.onFruitRemoved(pos));
+        }
+    }
+
     @SuppressWarnings("deprecation")
     @Override
     public boolean canSurvive(BlockState state, LevelReader level, BlockPos pos) {
@@ -9,8 +9,9 @@ import com.ferreusveritas.dynamictrees.api.treedata.TreePart;
 import com.ferreusveritas.dynamictrees.block.OffsetablePodBlock;
 import com.ferreusveritas.dynamictrees.block.leaves.DynamicLeavesBlock;
 import com.ferreusveritas.dynamictrees.block.leaves.LeavesProperties;
+import com.ferreusveritas.dynamictrees.block.leaves.StableLeavesTracker;
 import com.ferreusveritas.dynamictrees.cell.MetadataCell;
-import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionSelectionContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.init.DTConfigs;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
 import com.ferreusveritas.dynamictrees.tree.family.Family;
@@ -49,6 +50,7 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
 
 @SuppressWarnings("deprecation")
 public class BasicBranchBlock extends BranchBlock implements SimpleWaterloggedBlock {
@@ -260,6 +262,7 @@ public class BasicBranchBlock extends BranchBlock implements SimpleWaterloggedBl
 
     @Override
     public int setRadius(LevelAccessor level, BlockPos pos, int radius, @Nullable Direction originDir, int flags) {
+        StableLeavesTracker.invalidate(level, pos);
         destroyMode = DynamicTrees.DestroyMode.SET_RADIUS;
         boolean replacingWater = level.getBlockState(pos).getFluidState() == Fluids.WATER.getSource(false);
         boolean setWaterlogged = replacingWater && radius <= maxRadiusForWaterLogging;
@@ -302,43 +305,82 @@ public class BasicBranchBlock extends BranchBlock implements SimpleWaterloggedBl
         return signal;
     }
 
+    /**
+     * Passes the signal along this branch. Rather than recursing once per block, the signal is walked along any run of
+     * this same branch block in a loop, with each step recorded on a per-thread stack so that the branches can be
+     * thickened on the way back in the same order the recursion would have.
+     */
     @Override
     public GrowSignal growSignal(Level level, BlockPos pos, GrowSignal signal) {
-        // This is always placed at the beginning of every growSignal function
-        if (!signal.step()) {
-            return signal;
-        }
-
-        final BlockState currBlockState = level.getBlockState(pos);
+        final SignalStack stack = SIGNAL_STACK.get();
+        final int base = stack.size;
+        final BlockPos.MutableBlockPos cursor = stack.enter().set(pos);
+        final GrowthScratch scratch = GrowthScratch.get();
         final Species species = signal.getSpecies();
-        final boolean inTrunk = signal.isInTrunk();
-
-        final Direction originDir = signal.dir.getOpposite();// Direction this signal originated from
-        final Direction targetDir = species.getGrowthLogicKit().selectNewDirection( // This must be cached on the stack for proper recursion
-                new DirectionSelectionContext(level, pos, species, this, signal)
-        );
-        signal.doTurn(targetDir);
-
-        {
-            final BlockPos deltaPos = pos.relative(targetDir);
-            final BlockState deltaState = level.getBlockState(deltaPos);
-
-            // Pass grow signal to next block in path
-            final TreePart treepart = TreeHelper.getTreePart(deltaState);
-            if (treepart != TreeHelper.NULL_TREE_PART) {
-                signal = treepart.growSignal(level, deltaPos, signal);// Recurse
-            } else if (level.isEmptyBlock(deltaPos) || deltaState.getBlock() instanceof TrunkShellBlock) {
-                signal = growIntoAir(level, deltaPos, signal, getRadius(currBlockState));
+
+        try {
+            while (signal.step()) {// This is always placed at the beginning of every growSignal step
+                final int currRadius = getRadius(level.getBlockState(cursor));
+                final boolean inTrunk = signal.isInTrunk();
+
+                final Direction originDir = signal.dir.getOpposite();// Direction this signal originated from
+                final Direction targetDir = species.getGrowthLogicKit().selectNewDirection(
+                        scratch.selection(level, cursor, species, this, signal)
+                );
+                signal.doTurn(targetDir);
+                stack.push(cursor.asLong(), currRadius, originDir, targetDir, inTrunk);
+
+                cursor.move(targetDir);
+                final BlockState deltaState = level.getBlockState(cursor);
+
+                // Pass grow signal to next block in path
+                final TreePart treepart = TreeHelper.getTreePart(deltaState);
+                if (treepart == this && walksGrowSignals()) {
+                    continue;// Carry on along this branch without recursing
+                }
+                if (treepart != TreeHelper.NULL_TREE_PART) {
+                    signal = treepart.growSignal(level, cursor.immutable(), signal);// Recurse
+                } else if (level.isEmptyBlock(cursor) || deltaState.getBlock() instanceof TrunkShellBlock) {
+                    signal = growIntoAir(level, cursor.immutable(), signal, currRadius);
+                }
+                break;
             }
+
+            // Thicken each branch the signal passed through, from the tip back down
+            while (stack.size > base) {
+                stack.size--;
+                thickenBranch(level, stack.positions[stack.size], stack.radii[stack.size], stack.originDirs[stack.size],
+                        stack.targetDirs[stack.size], stack.inTrunk[stack.size], signal, species, cursor);
+            }
+        } finally {
+            // Only left over if something went wrong part way through
+            stack.size = base;
+            stack.depth--;
         }
 
+        return signal;
+    }
+
+    /**
+     * Whether grow signals may be walked along a run of this block inside one {@link #growSignal} call, rather than
+     * calling {@link #growSignal} on each block. Subclasses that override {@link #growSignal} must return false, which
+     * they do unless they override this.
+     *
+     * @return {@code true} if grow signals can be walked along this block
+     */
+    protected boolean walksGrowSignals() {
+        return getClass() == BasicBranchBlock.class;
+    }
+
+    private void thickenBranch(Level level, long packedPos, int currRadius, Direction originDir, Direction targetDir,
+                               boolean inTrunk, GrowSignal signal, Species species, BlockPos.MutableBlockPos deltaPos) {
         // Calculate Branch Thickness based on neighboring branches
         float areaAccum = signal.radius * signal.radius;// Start by accumulating the branch we just came from
 
         boolean theresPods = false;
         for (Direction dir : Direction.values()) {
             if (!dir.equals(originDir) && !dir.equals(targetDir)) {// Don't count where the signal originated from or the branch we just came back from
-                BlockPos deltaPos = pos.relative(dir);
+                deltaPos.set(packedPos).move(dir);
 
                 // If it is decided to implement a special block(like a squirrel hole, tree
                 // swing, rotting, burned or infested branch, etc) then this new block could be
@@ -361,19 +403,65 @@ public class BasicBranchBlock extends BranchBlock implements SimpleWaterloggedBl
 
             // The new branch should be the square root of all of the sums of the areas of the branches coming into it.
             // But it shouldn't be smaller than it's current size(prevents the instant slimming effect when chopping off branches)
-            signal.radius = Mth.clamp((float) Math.sqrt(areaAccum) + species.getTapering(), getRadius(currBlockState), maxRadius);// WOW!
+            signal.radius = Mth.clamp((float) Math.sqrt(areaAccum) + species.getTapering(), currRadius, maxRadius);// WOW!
             int targetRadius = (int) Math.floor(signal.radius);
             //if the tree has pods then growth needs to cause updates, otherwise don't bother (for performance)
             int flags = theresPods ? 3 : 2;
-            int setRad = setRadius(level, pos, targetRadius, originDir, flags);
+            // The position is handed on to setBlock, which may keep it (for scheduled ticks), so it can't be mutable
+            int setRad = setRadius(level, BlockPos.of(packedPos), targetRadius, originDir, flags);
             if (setRad < targetRadius) { //We tried to set a radius but it didn't comply because something is in the way.
                 signal.choked = true; //If something is in the way then it means that the tree growth is choked
             }
         }
-
-        return signal;
     }
 
+    private static final ThreadLocal<SignalStack> SIGNAL_STACK = ThreadLocal.withInitial(SignalStack::new);
+
+    /**
+     * The steps of grow signals passing through branches on one thread, waiting to be thickened. Signals that pass
+     * into other tree parts and back into branches push on top of the steps below them, and walk with the cursor one
+     * deeper than the call they came from.
+     */
+    private static final class SignalStack {
+        private long[] positions = new long[64];
+        private int[] radii = new int[64];
+        private Direction[] originDirs = new Direction[64];
+        private Direction[] targetDirs = new Direction[64];
+        private boolean[] inTrunk = new boolean[64];
+        private int size = 0;
+        private BlockPos.MutableBlockPos[] cursors = new BlockPos.MutableBlockPos[0];
+        private int depth = 0;
+
+        /**
+         * @return the cursor for a new {@link #growSignal} call, which is its own until the call leaves
+         */
+        BlockPos.MutableBlockPos enter() {
+            if (this.depth == this.cursors.length) {
+                this.cursors = Arrays.copyOf(this.cursors, this.depth + 8);
+                for (int i = this.depth; i < this.cursors.length; i++) {
+                    this.cursors[i] = new BlockPos.MutableBlockPos();
+                }
+            }
+            return this.cursors[this.depth++];
+        }
+
+        void push(long pos, int radius, Direction originDir, Direction targetDir, boolean inTrunk) {
+            if (this.size == this.positions.length) {
+                final int capacity = this.size * 2;
+                this.positions = Arrays.copyOf(this.positions, capacity);
+                this.radii = Arrays.copyOf(this.radii, capacity);
+                this.originDirs = Arrays.copyOf(this.originDirs, capacity);
+                this.targetDirs = Arrays.copyOf(this.targetDirs, capacity);
+                this.inTrunk = Arrays.copyOf(this.inTrunk, capacity);
+            }
+            this.positions[this.size] = pos;
+            this.radii[this.size] = radius;
+            this.originDirs[this.size] = originDir;
+            this.targetDirs[this.size] = targetDir;
+            this.inTrunk[this.size] = inTrunk;
+            this.size++;
+        }
+    }
 
     ///////////////////////////////////////////
     // PHYSICAL BOUNDS
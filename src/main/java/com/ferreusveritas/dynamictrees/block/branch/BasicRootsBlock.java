@@ -12,7 +12,7 @@ import com.ferreusveritas.dynamictrees.block.rooty.AerialRootsSoilProperties;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
 import com.ferreusveritas.dynamictrees.event.FutureBreak;
-import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionSelectionContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.init.DTConfigs;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
 import com.ferreusveritas.dynamictrees.systems.nodemapper.NetVolumeNode;
@@ -28,7 +28,6 @@ import com.ferreusveritas.dynamictrees.util.EntityUtils;
 import com.ferreusveritas.dynamictrees.util.LootTableSupplier;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.Vec3i;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
@@ -376,26 +375,23 @@ public class BasicRootsBlock extends BranchBlock implements SimpleWaterloggedBlo
         this.analyse(blockState, level, cutPos, wholeTree ? null : signal.localRootDir, new MapSignal(stateMapper));
 
         // Analyze only part of the tree beyond the break point and calculate its volume, then destroy the branches.
-        final NetVolumeNode volumeSum = new NetVolumeNode();
+        final NetVolumeNode volumeSum = new NetVolumeNode(this.getFamily().getNumberOfValidBranchBlocks());
         final RootsDestroyerNode destroyer = new RootsDestroyerNode(getFamily());
         destroyMode = DynamicTrees.DestroyMode.HARVEST;
         this.analyse(blockState, level, cutPos, wholeTree ? null : signal.localRootDir, new MapSignal(volumeSum, destroyer));
         destroyMode = DynamicTrees.DestroyMode.SLOPPY;
 
         // Calculate main trunk height.
-        int trunkHeight = 1;
-        for (BlockPos iter = new BlockPos(0, 1, 0); stateMapper.getBranchConnectionMap().containsKey(iter); iter = iter.above()) {
-            trunkHeight++;
-        }
+        final int trunkHeight = stateMapper.getTrunkHeight();
 
         Direction cutDir = signal.localRootDir;
         if (cutDir == null) {
             cutDir = Direction.UP;
         }
 
-        BlockPos lowestBlock = stateMapper.getBranchConnectionMap().keySet().stream().min(Comparator.comparingInt(Vec3i::getY)).orElse(BlockPos.ZERO);
+        final int lowestY = stateMapper.getLowestY();
         final BlockPos.MutableBlockPos basePos = new BlockPos(cutPos).mutable();
-        for (int i = 0; i>lowestBlock.getY(); i--) {
+        for (int i = 0; i>lowestY; i--) {
             if (!level.getBlockState(basePos.move(0, -1, 0).below()).canBeReplaced()){
                 break;
             }
@@ -405,7 +401,7 @@ public class BasicRootsBlock extends BranchBlock implements SimpleWaterloggedBlo
             DropTreeIfUnsupported(level, cutPos, signal.root, entity instanceof Player ? (Player) entity : null);
         }
 
-        return new BranchDestructionData(species, stateMapper.getBranchConnectionMap(), new HashMap<>(), new ArrayList<>(), destroyer.getEnds(), volumeSum.getVolume(), cutPos, basePos, cutDir, toolDir, trunkHeight);
+        return new BranchDestructionData(species, stateMapper, Collections.emptyMap(), new ArrayList<>(), destroyer.getEnds(), volumeSum.getVolume(), cutPos, basePos, cutDir, toolDir, trunkHeight);
     }
 
     private void DropTreeIfUnsupported (Level level, BlockPos cutPos, BlockPos rootPos, @Nullable Player player){
@@ -622,7 +618,7 @@ public class BasicRootsBlock extends BranchBlock implements SimpleWaterloggedBlo
 
         final Direction originDir = signal.dir.getOpposite();// Direction this signal originated from
         Direction targetDir = speciesMangrove.getRootsGrowthLogicKit().selectNewDirection( // This must be cached on the stack for proper recursion
-                new DirectionSelectionContext(level, pos, species, this, signal)
+                GrowthScratch.get().selection(level, pos, species, this, signal)
         );
 
         signal.doTurn(targetDir);
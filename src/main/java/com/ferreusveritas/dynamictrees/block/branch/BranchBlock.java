@@ -8,6 +8,8 @@ import com.ferreusveritas.dynamictrees.api.treedata.TreePart;
 import com.ferreusveritas.dynamictrees.block.BlockWithDynamicHardness;
 import com.ferreusveritas.dynamictrees.block.leaves.DynamicLeavesBlock;
 import com.ferreusveritas.dynamictrees.block.leaves.LeavesProperties;
+import com.ferreusveritas.dynamictrees.block.leaves.StableLeavesTracker;
+import com.ferreusveritas.dynamictrees.block.rooty.TreeRootIndex;
 import com.ferreusveritas.dynamictrees.data.provider.DTLootTableProvider;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity.DestroyType;
@@ -344,7 +346,7 @@ public abstract class BranchBlock extends BlockWithDynamicHardness implements Tr
         this.analyse(blockState, level, cutPos, wholeTree ? null : signal.localRootDir, new MapSignal(stateMapper));
 
         // Analyze only part of the tree beyond the break point and calculate it's volume, then destroy the branches.
-        final NetVolumeNode volumeSum = new NetVolumeNode();
+        final NetVolumeNode volumeSum = new NetVolumeNode(this.getFamily().getNumberOfValidBranchBlocks());
         final DestroyerNode destroyer = new DestroyerNode(species).setPlayer(entity instanceof Player ? (Player) entity : null);
         destroyMode = DynamicTrees.DestroyMode.HARVEST;
         this.analyse(blockState, level, cutPos, wholeTree ? null : signal.localRootDir, new MapSignal(volumeSum, destroyer));
@@ -358,17 +360,14 @@ public abstract class BranchBlock extends BlockWithDynamicHardness implements Tr
         endPoints = endPoints.stream().map(p -> p.subtract(cutPos)).collect(Collectors.toList());
 
         // Calculate main trunk height.
-        int trunkHeight = 1;
-        for (BlockPos iter = new BlockPos(0, 1, 0); stateMapper.getBranchConnectionMap().containsKey(iter); iter = iter.above()) {
-            trunkHeight++;
-        }
+        final int trunkHeight = stateMapper.getTrunkHeight();
 
         Direction cutDir = signal.localRootDir;
         if (cutDir == null) {
             cutDir = Direction.DOWN;
         }
 
-        return new BranchDestructionData(species, stateMapper.getBranchConnectionMap(), destroyedLeaves, leavesDropsList, endPoints, volumeSum.getVolume(), cutPos, cutDir, toolDir, trunkHeight);
+        return new BranchDestructionData(species, stateMapper, destroyedLeaves, leavesDropsList, endPoints, volumeSum.getVolume(), cutPos, cutPos, cutDir, toolDir, trunkHeight);
     }
 
     /**
@@ -523,7 +522,7 @@ public abstract class BranchBlock extends BlockWithDynamicHardness implements Tr
         final List<ItemStack> woodDropList = woodItems.stream().filter(i -> level.random.nextFloat() <= chance).collect(Collectors.toList());
 
         // Drop the FallingTreeEntity into the level.
-        FallingTreeEntity.dropTree(level, destroyData, woodDropList, DestroyType.HARVEST);
+        FallingTreeEntity.dropTree(level, destroyData, woodDropList, DestroyType.HARVEST, entity);
 
         // Damage the axe by a prescribed amount.
         this.damageAxe(entity, heldItem, this.getRadius(state), woodVolume, true);
@@ -563,6 +562,10 @@ public abstract class BranchBlock extends BlockWithDynamicHardness implements Tr
 
     @Override
     public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean flag) {
+        StableLeavesTracker.invalidate(level, pos);
+        if (!state.is(newState.getBlock())) {
+            TreeRootIndex.invalidateSpeciesAround(level, pos);
+        }
         if (level.isClientSide || destroyMode != DynamicTrees.DestroyMode.SLOPPY) {
             super.onRemove(state, level, pos, newState, flag);
             return;
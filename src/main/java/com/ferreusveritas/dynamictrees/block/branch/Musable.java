@@ -7,4 +7,12 @@ import net.minecraft.world.level.block.state.BlockState;
 @FunctionalInterface
 public interface Musable {
     boolean isMusable(BlockGetter level, BlockState state, BlockPos pos);
+
+    /**
+     * Returns whether the shape of the given musable state depends only on the state, and not on its level or
+     * position. If so, the shapes of the {@link TrunkShellBlock trunk shells} around it are cached by state.
+     */
+    default boolean hasStateOnlyShape(BlockState state) {
+        return false;
+    }
 }
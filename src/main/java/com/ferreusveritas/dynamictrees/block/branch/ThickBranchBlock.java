@@ -35,6 +35,17 @@ public class ThickBranchBlock extends BasicBranchBlock implements Musable {
 
     protected static final IntegerProperty RADIUS_DOUBLE = IntegerProperty.create("radius", 1, MAX_RADIUS_THICK); //39 ?
 
+    /**
+     * The shapes of thick radii, which only depend on the radius and so are shared rather than created per query.
+     */
+    private static final VoxelShape[] THICK_SHAPES = new VoxelShape[MAX_RADIUS_THICK + 1];
+
+    static {
+        for (int radius = MAX_RADIUS + 1; radius <= MAX_RADIUS_THICK; radius++) {
+            THICK_SHAPES[radius] = createThickShape(radius);
+        }
+    }
+
     public ThickBranchBlock(ResourceLocation name, MapColor mapColor) {
         this(name, Properties.of().mapColor(mapColor));
     }
@@ -201,13 +212,28 @@ public class ThickBranchBlock extends BasicBranchBlock implements Musable {
             return super.getShape(state, level, pos, context);
         }
 
+        return thisRadius < THICK_SHAPES.length ? THICK_SHAPES[thisRadius] : createThickShape(thisRadius);
+    }
+
+    private static VoxelShape createThickShape(int thisRadius) {
         final double radius = thisRadius / 16.0;
         return Shapes.create(new AABB(0.5 - radius, 0.0, 0.5 - radius, 0.5 + radius, 1.0, 0.5 + radius));
     }
 
+    @Override
+    protected boolean walksGrowSignals() {
+        return getClass() == ThickBranchBlock.class;
+    }
+
     @Override
     public boolean isMusable(BlockGetter level, BlockState state, BlockPos pos) {
         return getRadius(state) > 8;
     }
 
+    @Override
+    public boolean hasStateOnlyShape(BlockState state) {
+        // Subclasses may have shapes that depend on more than the state, so they must opt in themselves.
+        return getClass() == ThickBranchBlock.class && getRadius(state) > MAX_RADIUS;
+    }
+
 }
\ No newline at end of file
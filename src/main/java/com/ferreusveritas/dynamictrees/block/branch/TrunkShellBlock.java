@@ -42,7 +42,6 @@ import net.minecraft.world.level.pathfinder.PathComputationType;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.HitResult;
-import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
@@ -51,6 +50,8 @@ import net.minecraft.world.ticks.TickPriority;
 import net.minecraftforge.client.extensions.common.IClientBlockExtensions;
 
 import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 @SuppressWarnings("deprecation")
@@ -78,6 +79,19 @@ public class TrunkShellBlock extends BlockWithDynamicHardness implements SimpleW
         }
     }
 
+    /**
+     * The furthest horizontal offset from a muse that shell shapes are cached for, which covers three layers of shells.
+     */
+    private static final int MAX_CACHED_OFFSET = 3;
+    private static final int CACHED_OFFSETS = MAX_CACHED_OFFSET * 2 + 1;
+
+    /**
+     * Shell shapes, indexed by muse state and then by the horizontal offset from the shell to the muse.
+     */
+    private static final Map<BlockState, VoxelShape[]> SHELL_SHAPES = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<BlockPos.MutableBlockPos> MUSE_POS = ThreadLocal.withInitial(BlockPos.MutableBlockPos::new);
+
     public TrunkShellBlock() {
         super(Properties.of().ignitedByLava().pushReaction(PushReaction.BLOCK));
         registerDefaultState(defaultBlockState().setValue(WATERLOGGED, false));
@@ -176,14 +190,56 @@ public class TrunkShellBlock extends BlockWithDynamicHardness implements SimpleW
         if (block instanceof Musable && ((Musable) block).isMusable(level, museState, musePos)) {
             return new ShellMuse(museState, musePos, museDir, musePos.subtract(originalPos));
         } else if (block instanceof TrunkShellBlock) { // If its another trunkshell, then this trunkshell is on another layer. IF they share a common direction, we return that shell's muse.
-            final Vec3i offset = ((TrunkShellBlock) block).getMuseDir(museState, musePos).getOffset();
-            if (new Vec3(offset.getX(), offset.getY(), offset.getZ()).add(new Vec3(museDir.getOffset().getX(), museDir.getOffset().getY(), museDir.getOffset().getZ())).lengthSqr() > 2.25) {
+            if (isOuterLayer(((TrunkShellBlock) block).getMuseDir(museState, musePos), museDir)) {
                 return (((TrunkShellBlock) block).getMuseUnchecked(level, museState, musePos, originalPos));
             }
         }
         return null;
     }
 
+    /**
+     * Resolves the muse state the same way as {@link #getMuseUnchecked(BlockGetter, BlockState, BlockPos, BlockPos)},
+     * but without allocating. The muse's position is left in {@code musePos}.
+     */
+    @Nullable
+    private BlockState getMuseStateUnchecked(BlockGetter level, BlockState state, BlockPos pos, BlockPos.MutableBlockPos musePos) {
+        Surround museDir = getMuseDir(state, pos);
+        musePos.set(pos);
+        while (true) {
+            musePos.move(museDir.getOffset());
+            final BlockState museState = CoordUtils.getStateSafe(level, musePos);
+            if (museState == null) {
+                return null;
+            }
+
+            final Block block = museState.getBlock();
+            if (block instanceof Musable && ((Musable) block).isMusable(level, museState, musePos)) {
+                return museState;
+            }
+            if (!(block instanceof TrunkShellBlock)) {
+                return null;
+            }
+            final Surround nextDir = ((TrunkShellBlock) block).getMuseDir(museState, musePos);
+            if (!isOuterLayer(nextDir, museDir)) {
+                return null;
+            }
+            museDir = nextDir;
+        }
+    }
+
+    /**
+     * Whether a shell pointing in {@code dir} towards a shell pointing in {@code nextDir} is on an outer layer of the
+     * same trunk, which is the case when the two directions together point further than a single diagonal.
+     */
+    private static boolean isOuterLayer(Surround nextDir, Surround dir) {
+        final Vec3i offset = nextDir.getOffset();
+        final Vec3i museOffset = dir.getOffset();
+        final int x = offset.getX() + museOffset.getX();
+        final int y = offset.getY() + museOffset.getY();
+        final int z = offset.getZ() + museOffset.getZ();
+        return x * x + y * y + z * z > 2.25;
+    }
+
     @Nullable
     public ShellMuse getMuse(BlockGetter level, BlockPos pos) {
         return this.getMuse(level, level.getBlockState(pos), pos);
@@ -202,7 +258,12 @@ public class TrunkShellBlock extends BlockWithDynamicHardness implements SimpleW
     }
 
     protected boolean isValid(@Nullable ShellMuse muse) {
-        return muse != null && muse.getRadius() > 8;
+        return muse != null && isValidMuseState(muse.state);
+    }
+
+    private boolean isValidMuseState(BlockState museState) {
+        final Block block = museState.getBlock();
+        return block instanceof BranchBlock && ((BranchBlock) block).getRadius(museState) > 8;
     }
 
     public void scheduleUpdateTick(BlockGetter level, BlockPos pos) {
@@ -220,7 +281,40 @@ public class TrunkShellBlock extends BlockWithDynamicHardness implements SimpleW
 
     @Override
     public VoxelShape getShape(BlockState state, BlockGetter level, BlockPos pos, CollisionContext context) {
-        return Null.applyIfNonnull(this.getMuse(level, state, pos), muse -> Shapes.create(muse.state.getShape(level, muse.pos).bounds().move(muse.museOffset)), Shapes.empty());
+        // Subclasses may override isValid, which is only called on the allocating path.
+        final BlockPos.MutableBlockPos musePos = MUSE_POS.get();
+        final BlockState museState = this.getClass() == TrunkShellBlock.class ?
+                this.getMuseStateUnchecked(level, state, pos, musePos) : null;
+        if (museState == null || !this.isValidMuseState(museState)) {
+            // Fall back to the allocating path, which also schedules the tick that removes invalid shells.
+            return Null.applyIfNonnull(this.getMuse(level, state, pos), muse -> this.getShellShape(level, muse.state, muse.pos, muse.museOffset.getX(), muse.museOffset.getY(), muse.museOffset.getZ()), Shapes.empty());
+        }
+        return this.getShellShape(level, museState, musePos, musePos.getX() - pos.getX(), musePos.getY() - pos.getY(), musePos.getZ() - pos.getZ());
+    }
+
+    /**
+     * Gets the shape of the muse moved by the given offset from the shell to the muse. The shapes for muses whose shape
+     * only depends on their state are created once per state and offset and then shared.
+     */
+    protected VoxelShape getShellShape(BlockGetter level, BlockState museState, BlockPos musePos, int x, int y, int z) {
+        final Block block = museState.getBlock();
+        if (y != 0 || Math.abs(x) > MAX_CACHED_OFFSET || Math.abs(z) > MAX_CACHED_OFFSET ||
+                !(block instanceof Musable) || !((Musable) block).hasStateOnlyShape(museState)) {
+            return Shapes.create(museState.getShape(level, musePos).bounds().move(x, y, z));
+        }
+
+        VoxelShape[] shapes = SHELL_SHAPES.get(museState);
+        if (shapes == null) {
+            shapes = SHELL_SHAPES.computeIfAbsent(museState, s -> new VoxelShape[CACHED_OFFSETS * CACHED_OFFSETS]);
+        }
+        final int index = (x + MAX_CACHED_OFFSET) * CACHED_OFFSETS + z + MAX_CACHED_OFFSET;
+        VoxelShape shape = shapes[index];
+        if (shape == null) {
+            // Shapes are immutable, so a race here at worst creates the same shape twice.
+            shape = Shapes.create(museState.getShape(level, musePos).bounds().move(x, 0, z));
+            shapes[index] = shape;
+        }
+        return shape;
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.ferreusveritas.dynamictrees.block.entity;
 
 import com.ferreusveritas.dynamictrees.api.TreeRegistry;
+import com.ferreusveritas.dynamictrees.block.rooty.TreeRootIndex;
 import com.ferreusveritas.dynamictrees.init.DTRegistries;
 import com.ferreusveritas.dynamictrees.tree.species.Species;
 import net.minecraft.core.BlockPos;
@@ -34,6 +35,9 @@ public class SpeciesBlockEntity extends BlockEntity {
     public void setSpecies(Species species) {
         this.species = species;
         this.setChanged();
+        if (this.level != null) {
+            TreeRootIndex.invalidateSpecies(this.level, this.worldPosition);
+        }
     }
 
     @Override
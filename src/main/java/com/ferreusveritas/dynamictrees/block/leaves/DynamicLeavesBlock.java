@@ -18,6 +18,7 @@ import com.ferreusveritas.dynamictrees.tree.species.Species;
 import com.ferreusveritas.dynamictrees.util.LevelContext;
 import com.ferreusveritas.dynamictrees.util.RayTraceCollision;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
+import com.ferreusveritas.dynamictrees.util.SectionBlockReader;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
@@ -119,9 +120,22 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
 
     @Nonnull
     public BlockState updateShape(@Nonnull BlockState stateIn, Direction facing, BlockState facingState, @Nonnull LevelAccessor level, @Nonnull BlockPos currentPos, BlockPos facingPos) {
+        StableLeavesTracker.invalidate(level, facingPos);
         return stateIn;
     }
 
+    @Override
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        StableLeavesTracker.invalidate(level, pos);
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        StableLeavesTracker.invalidate(level, pos);
+        super.onRemove(state, level, pos, newState, isMoving);
+    }
+
     public BlockState getStateForPlacement(BlockPlaceContext context) {
         return this.defaultBlockState();
     }
@@ -159,8 +173,20 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
     }
 
     protected void doTick(Level level, BlockPos pos, BlockState state, RandomSource rand) {
+        final boolean trackStability = StableLeavesTracker.isEnabled();
+        if (trackStability && StableLeavesTracker.isStable(level, pos)
+                && rand.nextInt(DTConfigs.STABLE_LEAVES_RECHECK_CHANCE.get()) != 0) {
+            return; // Nothing around these leaves has changed since they last aged without effect.
+        }
         if (canTickAt(level, pos) && getProperties(state).updateTick(level, pos, state, rand)) {
-            age(level, pos, state, rand, SafeChunkBounds.ANY);
+            final int modificationCount = StableLeavesTracker.getModificationCount();
+            final int newHydro = age(level, pos, state, rand, SafeChunkBounds.ANY);
+
+            // If ageing didn't change these leaves or place or remove anything nearby, these leaves are stable.
+            if (trackStability && newHydro == state.getValue(DISTANCE)
+                    && modificationCount == StableLeavesTracker.getModificationCount()) {
+                StableLeavesTracker.markStable(level, pos);
+            }
         }
     }
 
@@ -189,10 +215,16 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
             return oldHydro;
         }
 
+        // Most of what ageing reads is in the sections around these leaves. Subclasses may override the level versions
+        // of the checks below though, so those are only read through the sections for this exact class.
+        final SectionBlockReader reader = getClass() == DynamicLeavesBlock.class ? SectionBlockReader.around(level, pos) : null;
+
         // Check hydration level.  Dry leaves are dead leaves.
-        final int newHydro = getHydrationLevelFromNeighbors(level, pos, leavesProperties);
+        final int newHydro = reader != null ? getHydrationLevelFromNeighbors(reader, pos, leavesProperties)
+                : getHydrationLevelFromNeighbors(level, pos, leavesProperties);
 
-        if (newHydro == 0 || (!worldGen && !hasAdequateLight(state, level, leavesProperties, pos))) { // Light doesn't work right during worldgen so we'll just disable it during worldgen for now.
+        if (newHydro == 0 || (!worldGen && !(reader != null ? hasAdequateLight(state, level, reader, leavesProperties, pos)
+                : hasAdequateLight(state, level, leavesProperties, pos)))) { // Light doesn't work right during worldgen so we'll just disable it during worldgen for now.
             level.removeBlock(pos, false); // No water, no light .. no leaves.
             return -1; // Leaves were destroyed.
         } else {
@@ -207,8 +239,10 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
         for (Direction dir : Direction.values()) { // Go on all 6 sides of this block
             if (newHydro > 1 || rand.nextInt(4) == 0) { // we'll give it a 1 in 4 chance to grow leaves if hydro is low to help performance
                 BlockPos offpos = pos.relative(dir);
-                if (safeBounds.inBounds(offpos, true) && isLocationSuitableForNewLeaves(level, leavesProperties, offpos)) { // Attempt to grow new leaves
-                    int hydro = getHydrationLevelFromNeighbors(level, offpos, leavesProperties);
+                if (safeBounds.inBounds(offpos, true) && (reader != null ? isLocationSuitableForNewLeaves(level, reader, leavesProperties, offpos)
+                        : isLocationSuitableForNewLeaves(level, leavesProperties, offpos))) { // Attempt to grow new leaves
+                    int hydro = reader != null ? getHydrationLevelFromNeighbors(reader, offpos, leavesProperties)
+                            : getHydrationLevelFromNeighbors(level, offpos, leavesProperties);
                     if (hydro > 0) {
                         level.setBlock(offpos, getLeavesBlockStateForPlacement(level, offpos, leavesProperties.getDynamicLeavesState(hydro), 0, worldGen), 2); // Removed Notify Neighbors Flag for performance
                     }
@@ -396,14 +430,22 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
      * @return {@code true} if the {@link BlockPos} is suitable for new leaves; {@code false} otherwise.
      */
     public boolean isLocationSuitableForNewLeaves(LevelAccessor level, LeavesProperties leavesProperties, BlockPos pos) {
-        final BlockState blockState = level.getBlockState(pos);
+        return isLocationSuitableForNewLeaves(level, level, leavesProperties, pos);
+    }
+
+    /**
+     * As {@link #isLocationSuitableForNewLeaves(LevelAccessor, LeavesProperties, BlockPos)}, but reading blocks through
+     * the given reader, such as a {@link SectionBlockReader}, that sees the same blocks as the level.
+     */
+    public boolean isLocationSuitableForNewLeaves(LevelAccessor level, BlockGetter reader, LeavesProperties leavesProperties, BlockPos pos) {
+        final BlockState blockState = reader.getBlockState(pos);
         final Block block = blockState.getBlock();
 
         if (block instanceof DynamicLeavesBlock) {
             return false;
         }
 
-        final BlockState belowBlockState = level.getBlockState(pos.below());
+        final BlockState belowBlockState = reader.getBlockState(pos.below());
 
         // Prevent leaves from growing on the ground or above liquids.
         if (!leavesProperties.canGrowOnGround() && ((belowBlockState.canOcclude() && !TreeHelper.isBranch(belowBlockState) && !(belowBlockState.getBlock() instanceof LeavesBlock)) || belowBlockState.getBlock() instanceof LiquidBlock)) {
@@ -411,7 +453,7 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
         }
 
         // Help to grow into double tall grass and ferns in a more natural way.
-        final BlockState stateDown = level.getBlockState(pos.below());
+        final BlockState stateDown = reader.getBlockState(pos.below());
         if (block instanceof DoublePlantBlock && blockState.getValue(DoublePlantBlock.HALF) == DoubleBlockHalf.UPPER &&
                 stateDown.getBlock() instanceof DoublePlantBlock && stateDown.getValue(DoublePlantBlock.HALF) == DoubleBlockHalf.LOWER) {
             if (block == Blocks.TALL_GRASS) {
@@ -422,7 +464,10 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
             level.removeBlock(pos, false);
         }
 
-        return (level.isEmptyBlock(pos) || level.getBlockState(pos).canBeReplaced()) && hasAdequateLight(blockState, level, leavesProperties, pos);
+        final BlockState currentState = reader.getBlockState(pos);
+        return (currentState.isAir() || currentState.canBeReplaced()) && (reader == level
+                ? hasAdequateLight(blockState, level, leavesProperties, pos) // Reading from the level, so call the overridable version.
+                : hasAdequateLight(blockState, level, reader, leavesProperties, pos));
     }
 
     /**
@@ -435,6 +480,14 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
      * @return {@code true} if the {@link Block} has adequate light; {@code false otherwise}.
      */
     public boolean hasAdequateLight(BlockState state, LevelAccessor level, LeavesProperties leavesProperties, BlockPos pos) {
+        return hasAdequateLight(state, level, level, leavesProperties, pos);
+    }
+
+    /**
+     * As {@link #hasAdequateLight(BlockState, LevelAccessor, LeavesProperties, BlockPos)}, but reading blocks through
+     * the given reader. Light is still read from the level.
+     */
+    public boolean hasAdequateLight(BlockState state, LevelAccessor level, BlockGetter reader, LeavesProperties leavesProperties, BlockPos pos) {
 
         // If clear sky is above the block then we needn't go any further.
         if (level.canSeeSkyFromBelowWater(pos)) {
@@ -445,13 +498,14 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
 
         // Check to make sure there isn't too many leaves above this block.  Encourages forest canopy development.
         if (smother != 0) {
-            if (isBottom(level, pos)) { // Only act on the bottom block of the Growable stack
+            if (isBottom(reader, pos)) { // Only act on the bottom block of the Growable stack
                 // Prevent leaves from growing where they would be "smothered" from too much above foliage
 
                 int smotherLeaves = 0;
+                final BlockPos.MutableBlockPos abovePos = pos.mutable();
 
                 for (int i = 0; i < smother; i++) {
-                    smotherLeaves += TreeHelper.isTreePart(level, pos.above(i + 1)) ? 1 : 0;
+                    smotherLeaves += TreeHelper.isTreePart(reader.getBlockState(abovePos.move(Direction.UP))) ? 1 : 0;
                 }
 
                 if (smotherLeaves >= smother) {
@@ -476,6 +530,13 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
      * @return {@code true} if the {@link Block} is at the bottom of the stack; {@code false} otherwise.
      */
     public static boolean isBottom(LevelAccessor level, BlockPos pos) {
+        return isBottom((BlockGetter) level, pos);
+    }
+
+    /**
+     * As {@link #isBottom(LevelAccessor, BlockPos)}, but reading blocks through the given {@link BlockGetter}.
+     */
+    public static boolean isBottom(BlockGetter level, BlockPos pos) {
         final BlockState belowBlockState = level.getBlockState(pos.below());
         final TreePart belowTreepart = TreeHelper.getTreePart(belowBlockState);
 
@@ -495,6 +556,14 @@ public class DynamicLeavesBlock extends LeavesBlock implements TreePart, Ageable
      * @return The hydration from the solved cells.
      */
     public int getHydrationLevelFromNeighbors(LevelAccessor level, BlockPos pos, LeavesProperties leavesProperties) {
+        return getHydrationLevelFromNeighbors((BlockGetter) level, pos, leavesProperties);
+    }
+
+    /**
+     * As {@link #getHydrationLevelFromNeighbors(LevelAccessor, BlockPos, LeavesProperties)}, but reading the neighbors
+     * through the given {@link BlockGetter}, such as a {@link SectionBlockReader}.
+     */
+    public int getHydrationLevelFromNeighbors(BlockGetter level, BlockPos pos, LeavesProperties leavesProperties) {
         final Cell[] cells = new Cell[6];
 
         for (Direction dir : Direction.values()) {
@@ -4,7 +4,7 @@ import com.ferreusveritas.dynamictrees.api.registry.TypedRegistry;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
 
 public class ScruffyLeavesProperties extends LeavesProperties {
@@ -28,7 +28,8 @@ public class ScruffyLeavesProperties extends LeavesProperties {
     @Override
     protected DynamicLeavesBlock createDynamicLeaves(final Block.Properties properties) {
         return new DynamicLeavesBlock(this, properties){
-            public int getHydrationLevelFromNeighbors(LevelAccessor level, BlockPos pos, LeavesProperties leavesProperties) {
+            @Override
+            public int getHydrationLevelFromNeighbors(BlockGetter level, BlockPos pos, LeavesProperties leavesProperties) {
                 int hydro = super.getHydrationLevelFromNeighbors(level, pos, leavesProperties);
                 if (hydro <= maxHydro){
                     int hash = CoordUtils.coordHashCode(pos, 2) % 1000;
@@ -0,0 +1,202 @@
+package com.ferreusveritas.dynamictrees.block.leaves;
+
+import com.ferreusveritas.dynamictrees.init.DTConfigs;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks which {@link DynamicLeavesBlock dynamic leaves} are in a steady state, meaning their last
+ * {@link DynamicLeavesBlock#age} changed nothing. Random ticks on stable leaves are skipped (bar an occasional recheck)
+ * until a branch, leaves or other block near them changes, at which point the leaves around the change are marked
+ * unstable again.
+ *
+ * <p>Stability is held as a 4096 bit set per chunk section and saved with the chunk under {@link #STABLE_LEAVES_ID},
+ * in the same way as Poisson disc data. Leaves becoming stable don't mark the chunk unsaved, as that would have chunks
+ * full of leaves saved over and over as they settle. Their bits are saved whenever the chunk is saved anyway, and are
+ * otherwise lost, which only costs those leaves another tick. Leaves becoming unstable do mark the chunk unsaved, so
+ * that stale bits are never loaded. Chunks saved without the tag simply start with no stable leaves. A chunk's bits are
+ * dropped once it unloads and, if it needs saving, is saved.</p>
+ */
+public final class StableLeavesTracker {
+
+    public static final String STABLE_LEAVES_ID = "DTSL"; // ID for "Dynamic Trees Stable Leaves" NBT tag.
+
+    private static final int SECTION_WORDS = 4096 / Long.SIZE;
+
+    /**
+     * How far from a changed block leaves are marked unstable. Leaves read their direct neighbours for hydration and
+     * the neighbours of the blocks they may grow into, so two blocks horizontally and upwards covers that. Downwards
+     * also covers the leaves that may now be smothered (or no longer) by the change.
+     */
+    private static final int INVALIDATE_RADIUS = 2;
+    private static final int INVALIDATE_DEPTH = 5;
+
+    private static final Map<ResourceKey<Level>, Map<Long, ChunkData>> LEVELS = new ConcurrentHashMap<>();
+
+    /**
+     * Incremented whenever leaves are marked unstable, so that a tick can tell whether its own update caused a change.
+     * Leaves are ticked from more than one thread, so changes must be seen by all of them.
+     */
+    private static final AtomicInteger MODIFICATION_COUNT = new AtomicInteger();
+
+    private StableLeavesTracker() {
+    }
+
+    public static boolean isEnabled() {
+        return DTConfigs.SUPPRESS_STABLE_LEAVES_TICKS.get();
+    }
+
+    public static int getModificationCount() {
+        return MODIFICATION_COUNT.get();
+    }
+
+    public static boolean isStable(Level level, BlockPos pos) {
+        final long[] bits = getSection(level, pos, false);
+        return bits != null && (bits[wordIndex(pos)] & bitMask(pos)) != 0;
+    }
+
+    public static void markStable(Level level, BlockPos pos) {
+        final long[] bits = getSection(level, pos, true);
+        if (bits != null && (bits[wordIndex(pos)] & bitMask(pos)) == 0) {
+            bits[wordIndex(pos)] |= bitMask(pos);
+        }
+    }
+
+    /**
+     * Marks all leaves that could be affected by a change at the given position as unstable.
+     *
+     * @param level the level the change happened in; ignored if not a server {@link Level}, such as during world gen
+     * @param pos   the position of the changed block
+     */
+    public static void invalidate(LevelAccessor level, BlockPos pos) {
+        if (!(level instanceof Level) || level.isClientSide()) {
+            return;
+        }
+        final Map<Long, ChunkData> chunks = LEVELS.get(((Level) level).dimension());
+        MODIFICATION_COUNT.incrementAndGet();
+        if (chunks == null || chunks.isEmpty()) {
+            return;
+        }
+
+        for (int x = pos.getX() - INVALIDATE_RADIUS; x <= pos.getX() + INVALIDATE_RADIUS; x++) {
+            for (int z = pos.getZ() - INVALIDATE_RADIUS; z <= pos.getZ() + INVALIDATE_RADIUS; z++) {
+                final ChunkData chunk = chunks.get(ChunkPos.asLong(x >> 4, z >> 4));
+                if (chunk == null) {
+                    continue;
+                }
+                boolean changed = false;
+                for (int y = pos.getY() - INVALIDATE_DEPTH; y <= pos.getY() + INVALIDATE_RADIUS; y++) {
+                    final long[] bits = chunk.sections.get(SectionPos.blockToSectionCoord(y));
+                    if (bits != null) {
+                        final int index = bitIndex(x, y, z);
+                        final long mask = 1L << (index & 63);
+                        if ((bits[index >> 6] & mask) != 0) {
+                            bits[index >> 6] &= ~mask;
+                            changed = true;
+                        }
+                    }
+                }
+                if (changed) {
+                    setUnsaved((Level) level, x >> 4, z >> 4);
+                }
+            }
+        }
+    }
+
+    public static void loadChunk(Level level, ChunkPos chunkPos, CompoundTag chunkTag) {
+        if (!chunkTag.contains(STABLE_LEAVES_ID, Tag.TAG_COMPOUND)) {
+            return;
+        }
+        final CompoundTag tag = chunkTag.getCompound(STABLE_LEAVES_ID);
+        final ChunkData chunk = new ChunkData();
+        for (String key : tag.getAllKeys()) {
+            final long[] bits = tag.getLongArray(key);
+            if (bits.length == SECTION_WORDS) {
+                chunk.sections.put(Integer.parseInt(key), bits);
+            }
+        }
+        LEVELS.computeIfAbsent(level.dimension(), k -> new ConcurrentHashMap<>()).put(chunkPos.toLong(), chunk);
+    }
+
+    public static void saveChunk(Level level, ChunkPos chunkPos, CompoundTag chunkTag) {
+        final ChunkData chunk = getChunk(level, chunkPos.toLong(), false);
+        if (chunk == null) {
+            return;
+        }
+        final CompoundTag tag = new CompoundTag();
+        chunk.sections.forEach((sectionY, bits) -> tag.putLongArray(Integer.toString(sectionY), bits.clone()));
+        chunkTag.put(STABLE_LEAVES_ID, tag);
+    }
+
+    public static void unloadChunk(Level level, ChunkPos chunkPos) {
+        final Map<Long, ChunkData> chunks = LEVELS.get(level.dimension());
+        if (chunks != null) {
+            chunks.remove(chunkPos.toLong());
+        }
+    }
+
+    /**
+     * Marks the given chunk as needing to be saved, so that leaves made unstable are saved as such.
+     */
+    private static void setUnsaved(Level level, int chunkX, int chunkZ) {
+        final LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (chunk != null) {
+            chunk.setUnsaved(true);
+        }
+    }
+
+    public static void unloadLevel(Level level) {
+        LEVELS.remove(level.dimension());
+    }
+
+    @Nullable
+    private static ChunkData getChunk(Level level, long chunkPos, boolean create) {
+        if (create) {
+            return LEVELS.computeIfAbsent(level.dimension(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(chunkPos, k -> new ChunkData());
+        }
+        final Map<Long, ChunkData> chunks = LEVELS.get(level.dimension());
+        return chunks == null ? null : chunks.get(chunkPos);
+    }
+
+    @Nullable
+    private static long[] getSection(Level level, BlockPos pos, boolean create) {
+        final ChunkData chunk = getChunk(level, ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), create);
+        if (chunk == null) {
+            return null;
+        }
+        final int sectionY = SectionPos.blockToSectionCoord(pos.getY());
+        return create ? chunk.sections.computeIfAbsent(sectionY, k -> new long[SECTION_WORDS]) :
+                chunk.sections.get(sectionY);
+    }
+
+    private static int bitIndex(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    private static int wordIndex(BlockPos pos) {
+        return bitIndex(pos.getX(), pos.getY(), pos.getZ()) >> 6;
+    }
+
+    private static long bitMask(BlockPos pos) {
+        return 1L << (bitIndex(pos.getX(), pos.getY(), pos.getZ()) & 63);
+    }
+
+    private static final class ChunkData {
+        private final Map<Integer, long[]> sections = new HashMap<>();
+    }
+
+}
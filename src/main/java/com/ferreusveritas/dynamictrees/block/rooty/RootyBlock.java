@@ -15,6 +15,7 @@ import com.ferreusveritas.dynamictrees.block.leaves.LeavesProperties;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
 import com.ferreusveritas.dynamictrees.init.DTConfigs;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
+import com.ferreusveritas.dynamictrees.systems.substance.LingeringEffectScheduler;
 import com.ferreusveritas.dynamictrees.tree.family.Family;
 import com.ferreusveritas.dynamictrees.tree.species.Species;
 import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
@@ -303,6 +304,18 @@ public class RootyBlock extends BlockWithDynamicHardness implements TreePart, En
         ) ? InteractionResult.SUCCESS : InteractionResult.FAIL;
     }
 
+    /**
+     * Starts lingering substance effects on clients when the server sends {@link LingeringEffectScheduler#START_EVENT_ID}.
+     */
+    @Override
+    public boolean triggerEvent(BlockState state, Level level, BlockPos pos, int id, int param) {
+        if (id == LingeringEffectScheduler.START_EVENT_ID) {
+            LingeringEffectScheduler.startOnClient(level, pos, param);
+            return true; // Sends the event to clients when run on the server.
+        }
+        return super.triggerEvent(state, level, pos, id, param);
+    }
+
     public void destroyTree(Level level, BlockPos rootPos){
         destroyTree(level, rootPos, null);
     }
@@ -337,6 +350,22 @@ public class RootyBlock extends BlockWithDynamicHardness implements TreePart, En
         super.onBlockExploded(state, level, pos, explosion);
     }
 
+    @Override
+    public void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (!oldState.is(state.getBlock())) {
+            TreeRootIndex.add(level, pos);
+        }
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        if (!state.is(newState.getBlock())) {
+            TreeRootIndex.remove(level, pos);
+        }
+        super.onRemove(state, level, pos, newState, isMoving);
+    }
+
     /**
      * Usually does nothing as rooty blocks usually don't have radius.
      * Overriden by #AerialRootsSoilProperties
@@ -457,9 +486,21 @@ public class RootyBlock extends BlockWithDynamicHardness implements TreePart, En
      * Rooty Dirt can report whatever {@link Family} species it wants to be. We'll use a stored value to determine the
      * species for the {@link BlockEntity} version. Otherwise we'll just make it report whatever {@link DynamicTrees} the
      * above {@link BranchBlock} says it is.
+     * <p>
+     * The result is cached in the {@link TreeRootIndex} until the trunk is removed or the species is set.
      */
     public Species getSpecies(BlockState state, LevelAccessor level, BlockPos rootPos) {
+        final Species cachedSpecies = TreeRootIndex.getSpecies(level, rootPos);
+        if (cachedSpecies != null) {
+            return cachedSpecies;
+        }
+
+        final Species species = this.resolveSpecies(state, level, rootPos);
+        TreeRootIndex.setSpecies(level, rootPos, species);
+        return species;
+    }
 
+    protected Species resolveSpecies(BlockState state, LevelAccessor level, BlockPos rootPos) {
         Family tree = getFamily(state, level, rootPos);
 
         SpeciesBlockEntity rootyDirtTE = getTileEntitySpecies(level, rootPos);
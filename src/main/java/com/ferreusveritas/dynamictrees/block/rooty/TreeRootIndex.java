@@ -0,0 +1,250 @@
+package com.ferreusveritas.dynamictrees.block.rooty;
+
+import com.ferreusveritas.dynamictrees.api.TreeHelper;
+import com.ferreusveritas.dynamictrees.tree.species.Species;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of the {@link RootyBlock rooty blocks} in each loaded chunk, along with the {@link Species} growing from
+ * each, so that trees can be found without scanning every block.
+ *
+ * <p>The index is kept up to date as rooty blocks are placed and removed and is saved with the chunk under
+ * {@link #ROOTS_ID}, in the same way as Poisson disc data. Chunks with no saved index, such as those saved before the
+ * index existed or generated since they were last loaded, are indexed the first time they are queried by scanning only
+ * the sections whose palettes contain rooty blocks. Only chunks that have been completely indexed are held, so changes
+ * in chunks that have not are simply picked up by that scan.</p>
+ *
+ * <p>Species are resolved lazily, since a rooty block is placed before the trunk it belongs to. Once resolved, the index
+ * doubles as the cache behind {@link RootyBlock#getSpecies(BlockState, LevelAccessor, BlockPos)}, so the species of a
+ * root is only resolved again after its trunk is removed or its species is set.</p>
+ */
+public final class TreeRootIndex {
+
+    public static final String ROOTS_ID = "DTRI"; // ID for "Dynamic Trees Root Index" NBT tag.
+
+    private static final String POSITIONS = "positions";
+    private static final String SPECIES = "species";
+
+    private static final Map<ResourceKey<Level>, Map<Long, ChunkRoots>> LEVELS = new ConcurrentHashMap<>();
+
+    private TreeRootIndex() {
+    }
+
+    /**
+     * Gets the positions of the rooty blocks in all chunks within the given radius of a chunk.
+     *
+     * @param level    the level the chunks are in
+     * @param chunkPos the position of the centre chunk
+     * @param radius   the radius in chunks
+     * @return the root positions found
+     */
+    public static List<BlockPos> getRootPositions(Level level, ChunkPos chunkPos, int radius) {
+        final List<BlockPos> positions = new ArrayList<>();
+        for (int x = chunkPos.x - radius; x <= chunkPos.x + radius; x++) {
+            for (int z = chunkPos.z - radius; z <= chunkPos.z + radius; z++) {
+                final ChunkRoots chunk = getOrIndexChunk(level, x, z);
+                if (chunk != null) {
+                    positions.addAll(chunk.roots.keySet());
+                }
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Records a rooty block placed at the given position. Its species is resolved when it is next queried.
+     */
+    public static void add(LevelAccessor level, BlockPos pos) {
+        final ChunkRoots chunk = getChunk(level, pos);
+        if (chunk != null) {
+            chunk.roots.putIfAbsent(pos.immutable(), null);
+        }
+    }
+
+    public static void remove(LevelAccessor level, BlockPos pos) {
+        final ChunkRoots chunk = getChunk(level, pos);
+        if (chunk != null) {
+            chunk.roots.remove(pos);
+        }
+    }
+
+    /**
+     * Gets the species recorded for the rooty block at the given position, indexing its chunk first if necessary.
+     *
+     * @return the species, or {@code null} if it isn't known
+     */
+    @Nullable
+    public static Species getSpecies(LevelAccessor level, BlockPos pos) {
+        if (!(level instanceof Level) || level.isClientSide()) {
+            return null;
+        }
+        final ChunkRoots chunk = getOrIndexChunk((Level) level, pos.getX() >> 4, pos.getZ() >> 4);
+        return chunk == null ? null : chunk.roots.get(pos);
+    }
+
+    /**
+     * Records the resolved species of the rooty block at the given position, if it is indexed. Invalid species are not
+     * recorded, so that the species is resolved again once the tree has a trunk.
+     */
+    public static void setSpecies(LevelAccessor level, BlockPos pos, Species species) {
+        final ChunkRoots chunk = getChunk(level, pos);
+        if (chunk != null && species.isValid()) {
+            chunk.roots.replace(pos, species);
+        }
+    }
+
+    /**
+     * Forgets the species of the rooty block at the given position, so that it is resolved again when next queried.
+     */
+    public static void invalidateSpecies(LevelAccessor level, BlockPos pos) {
+        final ChunkRoots chunk = getChunk(level, pos);
+        if (chunk != null && chunk.roots.get(pos) != null) {
+            chunk.roots.put(pos, null);
+        }
+    }
+
+    /**
+     * Forgets the species of any rooty blocks next to the given position, which should be called when a block that may
+     * be the trunk of a tree is removed.
+     */
+    public static void invalidateSpeciesAround(LevelAccessor level, BlockPos pos) {
+        for (Direction direction : Direction.values()) {
+            invalidateSpecies(level, pos.relative(direction));
+        }
+    }
+
+    public static void loadChunk(Level level, ChunkPos chunkPos, CompoundTag chunkTag) {
+        if (!chunkTag.contains(ROOTS_ID, Tag.TAG_COMPOUND)) {
+            return;
+        }
+        final CompoundTag tag = chunkTag.getCompound(ROOTS_ID);
+        final long[] positions = tag.getLongArray(POSITIONS);
+        final ListTag species = tag.getList(SPECIES, Tag.TAG_STRING);
+        if (positions.length != species.size()) {
+            return; // Leave the chunk to be indexed again.
+        }
+
+        final ChunkRoots chunk = new ChunkRoots();
+        for (int i = 0; i < positions.length; i++) {
+            final ResourceLocation speciesName = ResourceLocation.tryParse(species.getString(i));
+            final Species rootSpecies = speciesName == null ? null : Species.REGISTRY.get(speciesName);
+            chunk.roots.put(BlockPos.of(positions[i]), rootSpecies != null && rootSpecies.isValid() ? rootSpecies : null);
+        }
+        LEVELS.computeIfAbsent(level.dimension(), k -> new ConcurrentHashMap<>()).put(chunkPos.toLong(), chunk);
+    }
+
+    public static void saveChunk(Level level, ChunkPos chunkPos, CompoundTag chunkTag) {
+        final Map<Long, ChunkRoots> chunks = LEVELS.get(level.dimension());
+        final ChunkRoots chunk = chunks == null ? null : chunks.get(chunkPos.toLong());
+        if (chunk == null) {
+            return;
+        }
+
+        final long[] positions = new long[chunk.roots.size()];
+        final ListTag species = new ListTag();
+        int i = 0;
+        for (Map.Entry<BlockPos, Species> entry : chunk.roots.entrySet()) {
+            positions[i++] = entry.getKey().asLong();
+            species.add(StringTag.valueOf(entry.getValue() == null ? "" : entry.getValue().getRegistryName().toString()));
+        }
+        final CompoundTag tag = new CompoundTag();
+        tag.putLongArray(POSITIONS, positions);
+        tag.put(SPECIES, species);
+        chunkTag.put(ROOTS_ID, tag);
+    }
+
+    public static void unloadChunk(Level level, ChunkPos chunkPos) {
+        final Map<Long, ChunkRoots> chunks = LEVELS.get(level.dimension());
+        if (chunks != null) {
+            chunks.remove(chunkPos.toLong());
+        }
+    }
+
+    public static void unloadLevel(Level level) {
+        LEVELS.remove(level.dimension());
+    }
+
+    /**
+     * Gets the index of the chunk containing the given position, if it has been indexed. Changes during world gen are
+     * ignored, since the chunk will be indexed from its blocks once it is loaded.
+     */
+    @Nullable
+    private static ChunkRoots getChunk(LevelAccessor level, BlockPos pos) {
+        if (!(level instanceof Level) || level.isClientSide()) {
+            return null;
+        }
+        final Map<Long, ChunkRoots> chunks = LEVELS.get(((Level) level).dimension());
+        return chunks == null ? null : chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+    }
+
+    @Nullable
+    private static ChunkRoots getOrIndexChunk(Level level, int chunkX, int chunkZ) {
+        final Map<Long, ChunkRoots> chunks = LEVELS.computeIfAbsent(level.dimension(), k -> new ConcurrentHashMap<>());
+        ChunkRoots chunk = chunks.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (chunk != null) {
+            return chunk;
+        }
+
+        final LevelChunk levelChunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+        if (levelChunk == null) {
+            return null;
+        }
+        chunk = indexChunk(levelChunk);
+        chunks.put(ChunkPos.asLong(chunkX, chunkZ), chunk);
+        return chunk;
+    }
+
+    /**
+     * Finds every rooty block in the given chunk, skipping sections whose palettes have no rooty blocks in them.
+     */
+    private static ChunkRoots indexChunk(LevelChunk levelChunk) {
+        final ChunkRoots chunk = new ChunkRoots();
+        final ChunkPos chunkPos = levelChunk.getPos();
+        final LevelChunkSection[] sections = levelChunk.getSections();
+
+        for (int index = 0; index < sections.length; index++) {
+            final LevelChunkSection section = sections[index];
+            if (section.hasOnlyAir() || !section.maybeHas(TreeHelper::isRooty)) {
+                continue;
+            }
+            final int minY = SectionPos.sectionToBlockCoord(levelChunk.getSectionYFromSectionIndex(index));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (TreeHelper.isRooty(section.getBlockState(x, y, z))) {
+                            chunk.roots.put(new BlockPos(chunkPos.getMinBlockX() + x, minY + y,
+                                    chunkPos.getMinBlockZ() + z), null);
+                        }
+                    }
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static final class ChunkRoots {
+        private final Map<BlockPos, Species> roots = new HashMap<>();
+    }
+
+}
@@ -10,6 +10,8 @@ import net.minecraft.world.level.Level;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -41,6 +43,7 @@ public class NormalSeasonManager implements SeasonManager {
 
     public void flushMappings() {
         seasonContextMap.clear();
+        tropicalCache.clear();
     }
 
 
@@ -52,16 +55,75 @@ public class NormalSeasonManager implements SeasonManager {
 
     private BiPredicate<Level, BlockPos> isTropical = (level, rootPos) -> level.getUncachedNoiseBiome(rootPos.getX() >> 2, rootPos.getY() >> 2, rootPos.getZ() >> 2).value().getBaseTemperature() > TROPICAL_THRESHHOLD;
 
+    /**
+     * The climate zone of each biome sample (4x4x4 blocks) the tropical predicate has been tested at, by level. Trees
+     * don't move, so the same few samples are tested over and over again for the seasonal factors.
+     */
+    private final Map<ResourceLocation, ClimateZoneCache> tropicalCache = new ConcurrentHashMap<>();
+
     /**
      * Set the global predicate that determines if a world location is tropical. Predicate should return true if
      * tropical, false if temperate.
      */
     public void setTropicalPredicate(BiPredicate<Level, BlockPos> predicate) {
         isTropical = predicate;
+        tropicalCache.clear();
     }
 
     public boolean isTropical(Level level, BlockPos rootPos) {
-        return isTropical.test(level, rootPos);
+        final ClimateZoneCache zones = tropicalCache.computeIfAbsent(level.dimension().location(), d -> new ClimateZoneCache());
+        final long sample = ClimateZoneCache.sample(rootPos);
+        final int cached = zones.get(sample);
+        if (cached != ClimateZoneCache.MISSING) {
+            return cached == 1;
+        }
+        final boolean result = isTropical.test(level, rootPos);
+        zones.put(sample, result);
+        return result;
+    }
+
+    /**
+     * A fixed size, direct mapped cache of the climate zone of biome samples. Each slot packs a sample's coordinates
+     * with its zone into one long, so lookups don't box and concurrent world gen threads never see a torn entry. A
+     * sample that lands in an occupied slot replaces only that slot's entry, so the cache stays bounded without ever
+     * being emptied wholesale.
+     */
+    private static final class ClimateZoneCache {
+        static final int MISSING = -1;
+
+        private static final int BITS = 16;
+        private static final long PRESENT = 2;
+        private static final long TROPICAL = 1;
+
+        private final AtomicLongArray entries = new AtomicLongArray(1 << BITS);
+
+        /**
+         * Packs the biome sample containing the given position into the low 60 bits: 24 each for x and z, which covers
+         * the world border, and 12 for y.
+         */
+        static long sample(BlockPos pos) {
+            return ((long) ((pos.getX() >> 2) & 0xFFFFFF) << 36) | ((long) ((pos.getZ() >> 2) & 0xFFFFFF) << 12)
+                    | ((pos.getY() >> 2) & 0xFFF);
+        }
+
+        private static int slot(long sample) {
+            return (int) ((sample * 0x9E3779B97F4A7C15L) >>> (64 - BITS));
+        }
+
+        /**
+         * @return {@code 1} if the sample is tropical, {@code 0} if temperate, or {@link #MISSING} if not cached
+         */
+        int get(long sample) {
+            final long entry = entries.get(slot(sample));
+            if ((entry & PRESENT) == 0 || entry >>> 2 != sample) {
+                return MISSING;
+            }
+            return (int) (entry & TROPICAL);
+        }
+
+        void put(long sample, boolean tropical) {
+            entries.set(slot(sample), sample << 2 | PRESENT | (tropical ? TROPICAL : 0));
+        }
     }
 
 
@@ -5,7 +5,17 @@ import com.ferreusveritas.dynamictrees.api.season.SeasonGrowthCalculator;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class SeasonContext {
+
+    // Indices of each factor for an offset, with the tropical factor following each temperate one.
+    private static final int GROWTH = 0;
+    private static final int SEED_DROP = 2;
+    private static final int FRUIT_PRODUCTION = 4;
+    private static final int FACTORS_PER_OFFSET = 6;
+
     private final SeasonProvider provider;
     private final SeasonGrowthCalculator calculator;
     private float temperateGrowthFactor;
@@ -21,6 +31,19 @@ public class SeasonContext {
 
     private long methodTicks = 0;
 
+    /**
+     * Every offset factors have been asked for. Species and fruit each have a fixed offset, so there are only ever a
+     * handful, and the factors for all of them are worked out whenever the season is refreshed.
+     */
+    private final Set<Float> knownOffsets = ConcurrentHashMap.newKeySet();
+    private volatile OffsetFactors offsetFactors = new OffsetFactors(new float[0], new float[0]);
+
+    /**
+     * The factors for each offset at the last refresh, {@link #FACTORS_PER_OFFSET} per offset.
+     */
+    private record OffsetFactors(float[] offsets, float[] factors) {
+    }
+
     public SeasonContext(SeasonProvider provider, SeasonGrowthCalculator calculator) {
         this.provider = provider;
         this.calculator = calculator;
@@ -39,11 +62,60 @@ public class SeasonContext {
             tropicalSeedDropFactor = calculator.calcSeedDropRate(seasonValue, ClimateZoneType.TROPICAL);
             temperateFruitProductionFactor = calculator.calcFruitProduction(seasonValue, ClimateZoneType.TEMPERATE);
             tropicalFruitProductionFactor = calculator.calcFruitProduction(seasonValue, ClimateZoneType.TROPICAL);
+            updateOffsetFactors();
         }
 
         methodTicks++;
     }
 
+    private void updateOffsetFactors() {
+        final float[] offsets = new float[knownOffsets.size()];
+        int i = 0;
+        for (Float offset : knownOffsets) {
+            if (i == offsets.length) {
+                break; // Added while copying, so it'll be included next time.
+            }
+            offsets[i++] = offset;
+        }
+
+        final float[] factors = new float[offsets.length * FACTORS_PER_OFFSET];
+        if (seasonValue != null) {
+            for (i = 0; i < offsets.length; i++) {
+                for (int factor = 0; factor < FACTORS_PER_OFFSET; factor++) {
+                    factors[i * FACTORS_PER_OFFSET + factor] = calcFactor(seasonValue + offsets[i], factor);
+                }
+            }
+        }
+
+        this.offsetFactors = new OffsetFactors(offsets, factors);
+    }
+
+    private float calcFactor(float seasonValue, int factor) {
+        final ClimateZoneType type = (factor & 1) == 0 ? ClimateZoneType.TEMPERATE : ClimateZoneType.TROPICAL;
+        return switch (factor & ~1) {
+            case GROWTH -> calculator.calcGrowthRate(seasonValue, type);
+            case SEED_DROP -> calculator.calcSeedDropRate(seasonValue, type);
+            default -> calculator.calcFruitProduction(seasonValue, type);
+        };
+    }
+
+    /**
+     * Gets a factor for the season shifted by the given offset from those precomputed at the last refresh, working it
+     * out directly if the offset hasn't been asked for before.
+     */
+    private float getOffsetFactor(float offset, int factor) {
+        final OffsetFactors offsetFactors = this.offsetFactors;
+        final float[] offsets = offsetFactors.offsets();
+        final float[] factors = offsetFactors.factors();
+        for (int i = 0; i < offsets.length; i++) {
+            if (offsets[i] == offset) {
+                return factors[i * FACTORS_PER_OFFSET + factor];
+            }
+        }
+        knownOffsets.add(offset);
+        return calcFactor(seasonValue + offset, factor);
+    }
+
     public SeasonProvider getSeasonProvider() {
         return provider;
     }
@@ -53,27 +125,27 @@ public class SeasonContext {
     }
 
     public float getTemperateGrowthFactor(float offset) {
-        return (offset == 0 || seasonValue == null) ? temperateGrowthFactor : calculator.calcGrowthRate(seasonValue + offset, ClimateZoneType.TEMPERATE);
+        return (offset == 0 || seasonValue == null) ? temperateGrowthFactor : getOffsetFactor(offset, GROWTH);
     }
 
     public float getTropicalGrowthFactor(float offset) {
-        return (offset == 0 || seasonValue == null) ? tropicalGrowthFactor : calculator.calcGrowthRate(seasonValue + offset, ClimateZoneType.TROPICAL);
+        return (offset == 0 || seasonValue == null) ? tropicalGrowthFactor : getOffsetFactor(offset, GROWTH + 1);
     }
 
     public float getTemperateSeedDropFactor(float offset) {
-        return (offset == 0 || seasonValue == null) ? temperateSeedDropFactor : calculator.calcSeedDropRate(seasonValue + offset, ClimateZoneType.TEMPERATE);
+        return (offset == 0 || seasonValue == null) ? temperateSeedDropFactor : getOffsetFactor(offset, SEED_DROP);
     }
 
     public float getTropicalSeedDropFactor(float offset) {
-        return (offset == 0 || seasonValue == null) ? tropicalSeedDropFactor : calculator.calcSeedDropRate(seasonValue + offset, ClimateZoneType.TROPICAL);
+        return (offset == 0 || seasonValue == null) ? tropicalSeedDropFactor : getOffsetFactor(offset, SEED_DROP + 1);
     }
 
     public float getTemperateFruitProductionFactor(float offset) {
-        return (offset == 0 || seasonValue == null) ? temperateFruitProductionFactor : calculator.calcFruitProduction(seasonValue + offset, ClimateZoneType.TEMPERATE);
+        return (offset == 0 || seasonValue == null) ? temperateFruitProductionFactor : getOffsetFactor(offset, FRUIT_PRODUCTION);
     }
 
     public float getTropicalFruitProductionFactor(float offset) {
-        return (offset == 0 || seasonValue == null) ? tropicalFruitProductionFactor : calculator.calcFruitProduction(seasonValue + offset, ClimateZoneType.TROPICAL);
+        return (offset == 0 || seasonValue == null) ? tropicalFruitProductionFactor : getOffsetFactor(offset, FRUIT_PRODUCTION + 1);
     }
 
     public Float getTemperatePeakFruitProductionSeasonValue(float offset) {
@@ -48,7 +48,11 @@ public class SeasonHelper {
     }
 
     static public float globalSeasonalGrowthFactor(LevelContext levelContext, BlockPos rootPos, float offset) {
-        return DTConfigs.ENABLE_SEASONAL_SEED_DROP_FACTOR.get() ? seasonManager.getGrowthFactor(levelContext.level(), rootPos, offset) : 1.0F;
+        return globalSeasonalGrowthFactor(levelContext.level(), rootPos, offset);
+    }
+
+    static public float globalSeasonalGrowthFactor(Level level, BlockPos rootPos, float offset) {
+        return DTConfigs.ENABLE_SEASONAL_SEED_DROP_FACTOR.get() ? seasonManager.getGrowthFactor(level, rootPos, offset) : 1.0F;
     }
 
     static public float globalSeasonalSeedDropFactor(LevelContext levelContext, BlockPos pos) {
@@ -56,7 +60,11 @@ public class SeasonHelper {
     }
 
     static public float globalSeasonalSeedDropFactor(LevelContext levelContext, BlockPos pos, float offset) {
-        return DTConfigs.ENABLE_SEASONAL_SEED_DROP_FACTOR.get() ? seasonManager.getSeedDropFactor(levelContext.level(), pos, offset) : 1.0F;
+        return globalSeasonalSeedDropFactor(levelContext.level(), pos, offset);
+    }
+
+    static public float globalSeasonalSeedDropFactor(Level level, BlockPos pos, float offset) {
+        return DTConfigs.ENABLE_SEASONAL_SEED_DROP_FACTOR.get() ? seasonManager.getSeedDropFactor(level, pos, offset) : 1.0F;
     }
 
     static public float globalSeasonalFruitProductionFactor(LevelContext levelContext, BlockPos pos, boolean getAsScan) {
@@ -64,7 +72,11 @@ public class SeasonHelper {
     }
 
     static public float globalSeasonalFruitProductionFactor(LevelContext levelContext, BlockPos pos, float offset, boolean getAsScan) {
-        return DTConfigs.ENABLE_SEASONAL_SEED_DROP_FACTOR.get() ? seasonManager.getFruitProductionFactor(levelContext.level(), pos, offset, getAsScan) : 1.0F;
+        return globalSeasonalFruitProductionFactor(levelContext.level(), pos, offset, getAsScan);
+    }
+
+    static public float globalSeasonalFruitProductionFactor(Level level, BlockPos pos, float offset, boolean getAsScan) {
+        return DTConfigs.ENABLE_SEASONAL_SEED_DROP_FACTOR.get() ? seasonManager.getFruitProductionFactor(level, pos, offset, getAsScan) : 1.0F;
     }
 
     /**
@@ -155,7 +155,7 @@ public class WailaBranchHandler implements IBlockComponentProvider {
 
         if (block instanceof BranchBlock branch) {
             // Analyze only part of the tree beyond the break point and calculate it's volume
-            NetVolumeNode volumeSum = new NetVolumeNode();
+            NetVolumeNode volumeSum = new NetVolumeNode(branch.getFamily().getNumberOfValidBranchBlocks());
             branch.analyse(state, level, pos, null, new MapSignal(volumeSum));
 
             NetVolumeNode.Volume volume = volumeSum.getVolume();
@@ -15,6 +15,7 @@ import com.ferreusveritas.dynamictrees.util.BlockBounds;
 import com.ferreusveritas.dynamictrees.util.BlockStates;
 import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
 import com.ferreusveritas.dynamictrees.util.CoordUtils.Surround;
+import com.ferreusveritas.dynamictrees.util.DropAggregator;
 import com.google.common.collect.Iterables;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
@@ -31,6 +32,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
@@ -44,10 +46,12 @@ import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.network.NetworkHooks;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * @author ferreusveritas
@@ -60,6 +64,8 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
     protected List<ItemStack> payload = new ArrayList<>(0);
     protected float volume = 0;
     protected boolean hasLeaves = false;
+    @Nullable
+    protected UUID cutterId = null;
 
     //Needed in client and server
     protected BranchDestructionData destroyData = new BranchDestructionData();
@@ -74,6 +80,7 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
     public boolean onFire = false;
     protected AABB cullingBB;
     protected Species species;
+    protected long seed = 0;
 
     public static AnimationHandler AnimHandlerFall = AnimationHandlers.falloverAnimationHandler;
     public static AnimationHandler AnimHandlerDrop = AnimationHandlers.defaultAnimationHandler;
@@ -132,6 +139,9 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
 
         this.species = destroyData.species;
 
+        //Shared with the client so both sides animate the fall the same way
+        this.seed = level().random.nextLong();
+
         this.setPosRaw(basePos.getX() + 0.5, basePos.getY(), basePos.getZ() + 0.5);
 
         int numBlocks = destroyData.getNumBranches();
@@ -174,6 +184,7 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         tag.putFloat("volume", volume);
         tag.putBoolean("hasleaves", hasLeaves);
         tag.putString("species", species.getRegistryName().toString());
+        tag.putLong("seed", seed);
 
         return tag;
     }
@@ -195,6 +206,7 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         species = Species.REGISTRY.get(tag.getString("species"));
 
         onFire = tag.getBoolean("onfire");
+        seed = tag.getLong("seed");
     }
 
 //	public Map<BakedQuad, Integer> getQuadTints (){
@@ -251,16 +263,12 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
 
     public AABB buildAABBFromDestroyData(BranchDestructionData destroyData) {
 
-        normalBB = new AABB(BlockPos.ZERO);
-
-        for (BlockPos relPos : destroyData.getPositions(BranchDestructionData.PosType.BRANCHES, false)) {
-            normalBB = normalBB.minmax(new AABB(relPos));
-        }
+        final BlockBounds bounds = new BlockBounds(BlockPos.ZERO);
+        destroyData.forEachPosition(BranchDestructionData.PosType.BRANCHES, false, bounds::union);
         if (destroyData.species.leavesAreSolid()){
-            for (BlockPos relPos : destroyData.getPositions(BranchDestructionData.PosType.LEAVES, false)) {
-                normalBB = normalBB.minmax(new AABB(relPos));
-            }
+            destroyData.forEachPosition(BranchDestructionData.PosType.LEAVES, false, bounds::union);
         }
+        normalBB = new AABB(bounds.getMin()).minmax(new AABB(bounds.getMax()));
 
         //Adjust the bounding box to account for the tree falling over
         double height = normalBB.maxY - normalBB.minY;
@@ -284,6 +292,27 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         return payload;
     }
 
+    /**
+     * @return the player who cut this tree down, if they are still in the level
+     */
+    @Nullable
+    public Player getCutter() {
+        return this.cutterId == null ? null : this.level().getPlayerByUUID(this.cutterId);
+    }
+
+    public FallingTreeEntity setCutter(@Nullable Entity cutter) {
+        this.cutterId = cutter instanceof Player ? cutter.getUUID() : null;
+        return this;
+    }
+
+    /**
+     * Creates a {@link DropAggregator} for this tree's drops, delivering to the {@linkplain #getCutter() cutter} if
+     * configured to.
+     */
+    public DropAggregator createDropAggregator() {
+        return DropAggregator.create(this.getCutter());
+    }
+
     public Vec3 getGeomCenter() {
         return geomCenter;
     }
@@ -304,6 +333,13 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         return species;
     }
 
+    /**
+     * @return the seed for any randomness in this tree's animation, which is the same on the server and clients
+     */
+    public long getSeed() {
+        return seed;
+    }
+
     @Override
     public void setPos(double x, double y, double z) {
         //This comes to the client as a packet from the server. But it doesn't set up the bounding box correctly
@@ -435,7 +471,8 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         Level level = entity.level();
         if (!level.isClientSide) {
             BlockPos cutPos = entity.getDestroyData().cutPos;
-            entity.getPayload().forEach(i -> spawnItemAsEntity(level, cutPos, i));
+            entity.createDropAggregator().addAll(cutPos, entity.getPayload())
+                    .drop((pos, stack) -> spawnItemAsEntity(level, pos, stack));
         }
     }
 
@@ -443,7 +480,9 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         Level level = entity.level();
         if (!level.isClientSide) {
             BlockPos cutPos = entity.getDestroyData().cutPos;
-            entity.getDestroyData().leavesDrops.forEach(bis -> Block.popResource(level, cutPos.offset(bis.pos), bis.stack));
+            final DropAggregator aggregator = entity.createDropAggregator();
+            entity.getDestroyData().leavesDrops.forEach(bis -> aggregator.add(cutPos.offset(bis.pos), bis.stack));
+            aggregator.drop((pos, stack) -> Block.popResource(level, pos, stack));
         }
     }
 
@@ -496,6 +535,10 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
         setupFromNBT(vox);
         setVoxelData(vox);
 
+        if (compound.hasUUID("cutter")) {
+            this.cutterId = compound.getUUID("cutter");
+        }
+
         if (compound.contains("payload")) {
             final ListTag nbtList = (ListTag) compound.get("payload");
 
@@ -522,6 +565,10 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
 
             compound.put("payload", list);
         }
+
+        if (this.cutterId != null) {
+            compound.putUUID("cutter", this.cutterId);
+        }
     }
 
     @Nonnull
@@ -531,9 +578,16 @@ public class FallingTreeEntity extends Entity implements ModelTracker {
     }
 
     public static FallingTreeEntity dropTree(Level level, BranchDestructionData destroyData, List<ItemStack> woodDropList, DestroyType destroyType) {
+        return dropTree(level, destroyData, woodDropList, destroyType, null);
+    }
+
+    /**
+     * Drops a tree, remembering the entity that cut it so its drops can be delivered to them.
+     */
+    public static FallingTreeEntity dropTree(Level level, BranchDestructionData destroyData, List<ItemStack> woodDropList, DestroyType destroyType, @Nullable Entity cutter) {
         //Spawn the appropriate item entities into the level
         if (!level.isClientSide) {// Only spawn entities server side
-            FallingTreeEntity entity = new FallingTreeEntity(level).setData(destroyData, woodDropList, destroyType);
+            FallingTreeEntity entity = new FallingTreeEntity(level).setCutter(cutter).setData(destroyData, woodDropList, destroyType);
             if (entity.isAlive()) {
                 level.addFreshEntity(entity);
             }
@@ -3,6 +3,7 @@ package com.ferreusveritas.dynamictrees.entity;
 import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.init.DTRegistries;
+import com.ferreusveritas.dynamictrees.systems.substance.LingeringEffectScheduler;
 import com.ferreusveritas.dynamictrees.systems.substance.LingeringSubstances;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -18,6 +19,11 @@ import net.minecraft.world.phys.AABB;
 import net.minecraftforge.entity.IEntityAdditionalSpawnData;
 import net.minecraftforge.network.NetworkHooks;
 
+/**
+ * @deprecated lingering effects are now run by {@link LingeringEffectScheduler} without an entity. This is kept so that
+ * effectors saved in existing worlds still load, after which they remove themselves.
+ */
+@Deprecated
 public class LingeringEffectorEntity extends Entity implements IEntityAdditionalSpawnData {
 
     private BlockPos blockPos;
@@ -51,12 +57,7 @@ public class LingeringEffectorEntity extends Entity implements IEntityAdditional
     }
 
     public static boolean treeHasEffectorForEffect(LevelAccessor level, BlockPos pos, SubstanceEffect effect) {
-        for (final LingeringEffectorEntity effector : level.getEntitiesOfClass(LingeringEffectorEntity.class, new AABB(pos))) {
-            if (effector.getEffect() != null && effector.getEffect().getName().equals(effect.getName())) {
-                return true;
-            }
-        }
-        return false;
+        return LingeringEffectScheduler.hasEffect(level, pos, effect);
     }
 
     public void setBlockPos(BlockPos pos) {
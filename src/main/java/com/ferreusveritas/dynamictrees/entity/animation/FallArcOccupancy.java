@@ -0,0 +1,174 @@
+package com.ferreusveritas.dynamictrees.entity.animation;
+
+import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+/**
+ * A lazily filled snapshot of the block collision shapes and liquids in the volume a tree sweeps through as it falls
+ * over, used by {@link FalloverAnimationHandler} to test the trunk against the world without asking the level for the
+ * same blocks every tick. Each block is read at most once, the first time the trunk comes near it, and is assumed not
+ * to change for the rest of the fall.
+ *
+ * <p>The snapshot covers the quarter disc the trunk rotates through away from the cut, down to a little below the base
+ * to allow for it sinking. Blocks outside it are still tested correctly but are read from the level every time.</p>
+ */
+public final class FallArcOccupancy {
+
+    private static final AABB[] EMPTY = new AABB[0];
+
+    /** The most segments of the trunk that are tested for collisions, as longer trunks are rarely stopped further up. */
+    public static final int MAX_SEGMENTS = 24;
+    /** How far below the base the trunk may end up, from rotating past horizontal or the base dropping. */
+    private static final int SINK_MARGIN = 4;
+
+    private final Level level;
+    private final CollisionContext context;
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final AABB[][] boxes;
+    private final boolean[] liquids;
+
+    private FallArcOccupancy(FallingTreeEntity entity, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        this.level = entity.level();
+        this.context = CollisionContext.of(entity);
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = maxY - minY + 1;
+        this.sizeZ = maxZ - minZ + 1;
+        this.boxes = new AABB[this.sizeX * this.sizeY * this.sizeZ][];
+        this.liquids = new boolean[this.boxes.length];
+    }
+
+    /**
+     * Creates a snapshot covering the volume the given tree's trunk can sweep through as it falls over.
+     */
+    public static FallArcOccupancy around(FallingTreeEntity entity) {
+        final Direction fallDir = entity.getDestroyData().toolDir.getOpposite();
+        final int length = Math.min(entity.getDestroyData().trunkHeight, MAX_SEGMENTS) + 2;
+        final BlockPos base = BlockPos.containing(entity.getX(), entity.getY(), entity.getZ());
+        // The trunk is at most 3 blocks thick, so two blocks either side of its line cover its width.
+        final BlockPos far = base.relative(fallDir, length);
+
+        return new FallArcOccupancy(entity,
+                Math.min(base.getX(), far.getX()) - 2, base.getY() - length - SINK_MARGIN, Math.min(base.getZ(), far.getZ()) - 2,
+                Math.max(base.getX(), far.getX()) + 2, base.getY() + length, Math.max(base.getZ(), far.getZ()) + 2);
+    }
+
+    /**
+     * @return true if any block's collision shape overlaps the given box, in the same way as
+     * {@link Level#noCollision(net.minecraft.world.entity.Entity, AABB)} but without entities or the world border
+     */
+    public boolean collides(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        // Blocks such as fences have shapes that reach into the block above, hence the extra block around the box.
+        final int x0 = Mth.floor(minX - 1.0E-7) - 1, x1 = Mth.floor(maxX + 1.0E-7) + 1;
+        final int y0 = Mth.floor(minY - 1.0E-7) - 1, y1 = Mth.floor(maxY + 1.0E-7) + 1;
+        final int z0 = Mth.floor(minZ - 1.0E-7) - 1, z1 = Mth.floor(maxZ + 1.0E-7) + 1;
+
+        for (int y = y0; y <= y1; y++) {
+            for (int z = z0; z <= z1; z++) {
+                for (int x = x0; x <= x1; x++) {
+                    for (AABB box : this.getBoxes(x, y, z)) {
+                        if (box.intersects(minX, minY, minZ, maxX, maxY, maxZ)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return true if any block overlapping the given box has a fluid, in the same way as
+     * {@link Level#containsAnyLiquid(AABB)}
+     */
+    public boolean containsLiquid(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        final int x0 = Mth.floor(minX), x1 = Mth.ceil(maxX);
+        final int y0 = Mth.floor(minY), y1 = Mth.ceil(maxY);
+        final int z0 = Mth.floor(minZ), z1 = Mth.ceil(maxZ);
+
+        for (int y = y0; y < y1; y++) {
+            for (int z = z0; z < z1; z++) {
+                for (int x = x0; x < x1; x++) {
+                    final int index = this.index(x, y, z);
+                    if (index < 0 ? this.readLiquid(x, y, z) : this.getCell(index, x, y, z) != null && this.liquids[index]) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private AABB[] getBoxes(int x, int y, int z) {
+        final int index = this.index(x, y, z);
+        return index < 0 ? this.readBoxes(x, y, z) : this.getCell(index, x, y, z);
+    }
+
+    private AABB[] getCell(int index, int x, int y, int z) {
+        AABB[] cell = this.boxes[index];
+        if (cell == null) {
+            final BlockPos pos = this.mutablePos.set(x, y, z);
+            if (this.level.isLoaded(pos)) {
+                final BlockState state = this.level.getBlockState(pos);
+                cell = this.getBoxes(state, pos);
+                this.liquids[index] = !state.getFluidState().isEmpty();
+            } else {
+                cell = EMPTY;
+            }
+            this.boxes[index] = cell;
+        }
+        return cell;
+    }
+
+    private int index(int x, int y, int z) {
+        x -= this.minX;
+        y -= this.minY;
+        z -= this.minZ;
+        if (x < 0 || y < 0 || z < 0 || x >= this.sizeX || y >= this.sizeY || z >= this.sizeZ) {
+            return -1;
+        }
+        return (y * this.sizeZ + z) * this.sizeX + x;
+    }
+
+    private AABB[] readBoxes(int x, int y, int z) {
+        final BlockPos pos = this.mutablePos.set(x, y, z);
+        if (!this.level.isLoaded(pos)) {
+            return EMPTY; // Unloaded blocks don't collide, as with the level's own collision checks.
+        }
+        return this.getBoxes(this.level.getBlockState(pos), pos);
+    }
+
+    private AABB[] getBoxes(BlockState state, BlockPos pos) {
+        final VoxelShape shape = state.getCollisionShape(this.level, pos, this.context);
+        if (shape.isEmpty()) {
+            return EMPTY;
+        }
+        return shape.toAabbs().stream().map(box -> box.move(pos)).toArray(AABB[]::new);
+    }
+
+    private boolean readLiquid(int x, int y, int z) {
+        final BlockPos pos = this.mutablePos.set(x, y, z);
+        if (!this.level.isLoaded(pos)) {
+            return false;
+        }
+        final BlockState state = this.level.getBlockState(pos);
+        return !state.getFluidState().isEmpty();
+    }
+
+}
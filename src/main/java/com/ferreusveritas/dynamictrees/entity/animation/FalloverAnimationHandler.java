@@ -27,9 +27,10 @@ import net.minecraft.world.phys.shapes.VoxelShape;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class FalloverAnimationHandler implements AnimationHandler {
 
@@ -45,6 +46,20 @@ public class FalloverAnimationHandler implements AnimationHandler {
         boolean fallThroughWaterSoundPlayed = false;
         boolean endSoundPlayed = false;
         HashSet<LivingEntity> entitiesHit = new HashSet<>();//A record of the entities that have taken damage to ensure they are only damaged a single time
+        boolean collided = false;//Whether the trunk hit something during the last tick
+        boolean inLiquid = false;//Whether the trunk passed through liquid during the last tick
+        @Nullable
+        FallArcOccupancy occupancy = null;//The blocks the trunk may hit, read as it comes near them
+        @Nullable
+        List<PredictedTick> prediction = null;//The whole fall, worked out in advance on the server
+        int predictionTick = 0;
+    }
+
+    /**
+     * The state of a falling tree after one tick of a predicted fall.
+     */
+    record PredictedTick(double y, float xRot, float yRot, float fallSpeed, int bounces, boolean landed,
+                         boolean collided, boolean inLiquid) {
     }
 
     HandlerData getData(FallingTreeEntity entity) {
@@ -164,12 +179,60 @@ public class FalloverAnimationHandler implements AnimationHandler {
         if (entity.level().getBlockState(belowBlock).isFaceSturdy(entity.level(), belowBlock, Direction.UP)) {
             entity.setOnGround(true);
         }
+
+        if (!entity.level().isClientSide && DTConfigs.PREDICT_FALLING_TREES.get()) {
+            predictMotion(entity, getData(entity));
+        }
     }
 
     @Override
     public void handleMotion(FallingTreeEntity entity) {
+        HandlerData data = getData(entity);
+
+        if (data.prediction != null) {
+            replayPrediction(entity, data);
+        } else {
+            simulateMotion(entity, data, true);
+        }
 
-        float fallSpeed = getData(entity).fallSpeed;
+        float fallSpeed = data.fallSpeed;
+
+        //Crush living things with clumsy dead trees
+        Level level = entity.level();
+        if (DTConfigs.ENABLE_FALLING_TREE_DAMAGE.get() && !level.isClientSide) {
+            List<LivingEntity> elist = testEntityCollision(entity);
+            for (LivingEntity living : elist) {
+                if (!data.entitiesHit.contains(living) && !living.getType().is(DTEntityTypeTags.FALLING_TREE_DAMAGE_IMMUNE)) {
+                    data.entitiesHit.add(living);
+                    float damage = entity.getDestroyData().woodVolume.getVolume() * Math.abs(fallSpeed) * 3f;
+                    if (data.bounces == 0 && damage > 2) {
+                        //System.out.println("damage: " + damage);
+                        living.setDeltaMovement(
+                                living.getDeltaMovement().x + (level.random.nextFloat() * entity.getDestroyData().toolDir.getOpposite().getStepX() * damage * 0.2f),
+                                living.getDeltaMovement().y + (level.random.nextFloat() * fallSpeed * 0.25f),
+                                living.getDeltaMovement().z + (level.random.nextFloat() * entity.getDestroyData().toolDir.getOpposite().getStepZ() * damage * 0.2f));
+                        living.setDeltaMovement(living.getDeltaMovement().x + (level.random.nextFloat() - 0.5), living.getDeltaMovement().y, living.getDeltaMovement().z + (level.random.nextFloat() - 0.5));
+                        damage *= DTConfigs.FALLING_TREE_DAMAGE_MULTIPLIER.get();
+                        //System.out.println("Tree Falling Damage: " + damage + "/" + living.getHealth());
+                        living.hurt(AnimationConstants.treeDamage(level.registryAccess()), damage);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Moves the tree on by one tick, rotating it about its base and bouncing it off whatever it hits.
+     *
+     * @param entity  the falling tree entity
+     * @param data    the handler data of the entity
+     * @param effects whether to play sounds and spawn particles, which is false while predicting the fall
+     */
+    protected void simulateMotion(FallingTreeEntity entity, HandlerData data, boolean effects) {
+
+        float fallSpeed = data.fallSpeed;
+        data.collided = false;
+        data.inLiquid = false;
 
         if (entity.onGround()) {
             float height = (float) entity.getMassCenter().y * 2;
@@ -206,49 +269,101 @@ public class FalloverAnimationHandler implements AnimationHandler {
             }
         }
 
-        if (fallSpeed > 0 && testCollision(entity)) {
-            playEndSound(entity);
-            flingLeavesParticles(entity, fallSpeed);
+        if (fallSpeed > 0 && testCollision(entity, data)) {
+            data.collided = true;
+            if (effects) {
+                playEndSound(entity);
+                flingLeavesParticles(entity, fallSpeed);
+            }
             addRotation(entity, -fallSpeed);//pull back to before the collision
-            getData(entity).bounces++;
+            data.bounces++;
             fallSpeed *= -AnimationConstants.TREE_ELASTICITY;//bounce with elasticity
             entity.landed = Math.abs(fallSpeed) < 0.02f;//The entity has landed if after a bounce it has little velocity
         }
 
-        //Crush living things with clumsy dead trees
-        Level level = entity.level();
-        if (DTConfigs.ENABLE_FALLING_TREE_DAMAGE.get() && !level.isClientSide) {
-            List<LivingEntity> elist = testEntityCollision(entity);
-            for (LivingEntity living : elist) {
-                if (!getData(entity).entitiesHit.contains(living) && !living.getType().is(DTEntityTypeTags.FALLING_TREE_DAMAGE_IMMUNE)) {
-                    getData(entity).entitiesHit.add(living);
-                    float damage = entity.getDestroyData().woodVolume.getVolume() * Math.abs(fallSpeed) * 3f;
-                    if (getData(entity).bounces == 0 && damage > 2) {
-                        //System.out.println("damage: " + damage);
-                        living.setDeltaMovement(
-                                living.getDeltaMovement().x + (level.random.nextFloat() * entity.getDestroyData().toolDir.getOpposite().getStepX() * damage * 0.2f),
-                                living.getDeltaMovement().y + (level.random.nextFloat() * fallSpeed * 0.25f),
-                                living.getDeltaMovement().z + (level.random.nextFloat() * entity.getDestroyData().toolDir.getOpposite().getStepZ() * damage * 0.2f));
-                        living.setDeltaMovement(living.getDeltaMovement().x + (level.random.nextFloat() - 0.5), living.getDeltaMovement().y, living.getDeltaMovement().z + (level.random.nextFloat() - 0.5));
-                        damage *= DTConfigs.FALLING_TREE_DAMAGE_MULTIPLIER.get();
-                        //System.out.println("Tree Falling Damage: " + damage + "/" + living.getHealth());
-                        living.hurt(AnimationConstants.treeDamage(level.registryAccess()), damage);
-                    }
-                }
+        if (effects && data.inLiquid) {
+            playFallThroughWaterSound(entity);
+        }
+
+        data.fallSpeed = fallSpeed;
+    }
+
+    /**
+     * Simulates the whole fall up front, recording the state of the tree after each tick until it would die, and then
+     * puts the tree back as it was. The simulation has no randomness, so clients running it from the same spawn data
+     * see the same fall the server replays.
+     *
+     * @param entity the falling tree entity
+     * @param data   the handler data of the entity
+     */
+    protected void predictMotion(FallingTreeEntity entity, HandlerData data) {
+        final double y = entity.getY();
+        final double yo = entity.yo;
+        final Vec3 deltaMovement = entity.getDeltaMovement();
+        final float xRot = entity.getXRot();
+        final float yRot = entity.getYRot();
+        final boolean onGround = entity.onGround();
+
+        final int maxTicks = 120 + entity.getDestroyData().trunkHeight;
+        final List<PredictedTick> prediction = new ArrayList<>();
+
+        //The first tick of the entity initialised the motion, so the first simulated tick is the second
+        for (int tick = 2; tick <= maxTicks + 1; tick++) {
+            simulateMotion(entity, data, false);
+            prediction.add(new PredictedTick(entity.getY(), entity.getXRot(), entity.getYRot(), data.fallSpeed,
+                    data.bounces, entity.landed, data.collided, data.inLiquid));
+            if (tick > 20 && (entity.landed || Math.abs(entity.getXRot()) >= 160 || Math.abs(entity.getYRot()) >= 160)) {
+                break;
             }
         }
 
-        getData(entity).fallSpeed = fallSpeed;
+        entity.setPos(entity.getX(), y, entity.getZ());
+        entity.yo = yo;
+        entity.setDeltaMovement(deltaMovement);
+        entity.setXRot(xRot);
+        entity.setYRot(yRot);
+        entity.setOnGround(onGround);
+        entity.landed = false;
+
+        data.fallSpeed = 0;
+        data.bounces = 0;
+        data.prediction = prediction;
+        data.predictionTick = 0;
+    }
+
+    /**
+     * Moves the tree to where the prediction has it on this tick, playing the sounds the simulation would have.
+     */
+    protected void replayPrediction(FallingTreeEntity entity, HandlerData data) {
+        if (data.predictionTick >= data.prediction.size()) {
+            return;//The tree is done falling and will be removed
+        }
+
+        PredictedTick tick = data.prediction.get(data.predictionTick++);
+        entity.setPos(entity.getX(), tick.y(), entity.getZ());
+        entity.setXRot(tick.xRot());
+        entity.setYRot(tick.yRot());
+        entity.landed = tick.landed();
+        data.fallSpeed = tick.fallSpeed();
+        data.bounces = tick.bounces();
+
+        if (tick.collided()) {
+            playEndSound(entity);
+        }
+        if (tick.inLiquid()) {
+            playFallThroughWaterSound(entity);
+        }
     }
 
     /**
-     * This tests a bounding box cube for each block of the trunk. Processing is approximately equivalent to the same
-     * number of {@link net.minecraft.world.entity.item.ItemEntity}s in the world.
+     * This tests a bounding box cube for each block of the trunk against a {@link FallArcOccupancy} snapshot of the
+     * blocks around the fall, so each block is only read from the level once over the whole fall.
      *
      * @param entity the falling tree entity
+     * @param data   the handler data of the entity, which records whether the trunk passed through liquid
      * @return true if collision is detected
      */
-    private boolean testCollision(FallingTreeEntity entity) {
+    private boolean testCollision(FallingTreeEntity entity, HandlerData data) {
         Direction toolDir = entity.getDestroyData().toolDir;
 
         float actingAngle = toolDir.getAxis() == Direction.Axis.X ? entity.getYRot() : entity.getXRot();
@@ -264,7 +379,12 @@ public class FalloverAnimationHandler implements AnimationHandler {
         int trunkHeight = entity.getDestroyData().trunkHeight;
         float maxRadius = entity.getDestroyData().getBranchRadius(0) / 16.0f;
 
-        trunkHeight = Math.min(trunkHeight, 24);
+        trunkHeight = Math.min(trunkHeight, FallArcOccupancy.MAX_SEGMENTS);
+
+        if (data.occupancy == null) {
+            data.occupancy = FallArcOccupancy.around(entity);
+        }
+        FallArcOccupancy occupancy = data.occupancy;
 
         for (int segment = 0; segment < trunkHeight; segment++) {
             float segX = xbase + h * segment * offsetX;
@@ -272,13 +392,12 @@ public class FalloverAnimationHandler implements AnimationHandler {
             float segZ = zbase + h * segment * offsetZ;
             float tex = 0.0625f;
             float half = Mth.clamp(tex * (segment + 1) * 2, tex, maxRadius);
-            AABB testBB = new AABB(segX - half, segY - half, segZ - half, segX + half, segY + half, segZ + half);
 
-            if (entity.level().containsAnyLiquid(testBB)){
-                playFallThroughWaterSound(entity);
+            if (!data.inLiquid && occupancy.containsLiquid(segX - half, segY - half, segZ - half, segX + half, segY + half, segZ + half)){
+                data.inLiquid = true;
             }
 
-            if (!entity.level().noCollision(entity, testBB)) {
+            if (occupancy.collides(segX - half, segY - half, segZ - half, segX + half, segY + half, segZ + half)) {
                 return true;
             }
         }
@@ -335,15 +454,15 @@ public class FalloverAnimationHandler implements AnimationHandler {
         Vec3 vec3d1 = new Vec3(xbase, ybase, zbase);
         Vec3 vec3d2 = new Vec3(segX, segY, segZ);
 
-        return level.getEntities(entity, new AABB(vec3d1.x, vec3d1.y, vec3d1.z, vec3d2.x, vec3d2.y, vec3d2.z),
-                entity1 -> {
-                    if (entity1 instanceof LivingEntity && entity1.isPickable()) {
-                        AABB axisalignedbb = entity1.getBoundingBox().inflate(maxRadius);
+        return level.getEntitiesOfClass(LivingEntity.class, new AABB(vec3d1.x, vec3d1.y, vec3d1.z, vec3d2.x, vec3d2.y, vec3d2.z),
+                living -> {
+                    if (living.isPickable()) {
+                        AABB axisalignedbb = living.getBoundingBox().inflate(maxRadius);
                         return axisalignedbb.contains(vec3d1) || intersects(axisalignedbb, vec3d1, vec3d2);
                     }
                     return false;
                 }
-        ).stream().map(a -> (LivingEntity) a).collect(Collectors.toList());
+        );
 
     }
 
@@ -357,7 +476,7 @@ public class FalloverAnimationHandler implements AnimationHandler {
     public void dropPayload(FallingTreeEntity entity) {
         Level level = entity.level();
         BlockPos cutPos = entity.getDestroyData().cutPos;
-        entity.getPayload().forEach(i -> Block.popResource(level, cutPos, i));
+        entity.createDropAggregator().addAll(cutPos, entity.getPayload()).drop((pos, stack) -> Block.popResource(level, pos, stack));
     }
 
     @Override
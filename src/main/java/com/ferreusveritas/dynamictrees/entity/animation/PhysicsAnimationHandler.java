@@ -5,6 +5,7 @@ import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
 import com.ferreusveritas.dynamictrees.block.branch.TrunkShellBlock;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
 import com.ferreusveritas.dynamictrees.tree.species.Species;
+import com.ferreusveritas.dynamictrees.util.DropAggregator;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Axis;
 import net.minecraft.client.Minecraft;
@@ -62,8 +63,7 @@ public class PhysicsAnimationHandler implements AnimationHandler {
 
         //playStartSound(entity);
 
-        final long seed = entity.level().random.nextLong();
-        final RandomSource random = RandomSource.create(seed ^ (((long) cutPos.getX()) << 32 | ((long) cutPos.getZ())));
+        final RandomSource random = RandomSource.create(entity.getSeed() ^ (((long) cutPos.getX()) << 32 | ((long) cutPos.getZ())));
         final float mass = entity.getDestroyData().woodVolume.getVolume();
         final float inertialMass = Mth.clamp(mass, 1, 3);
         entity.setDeltaMovement(entity.getDeltaMovement().x / inertialMass,
@@ -154,8 +154,10 @@ public class PhysicsAnimationHandler implements AnimationHandler {
     @Override
     public void dropPayload(FallingTreeEntity entity) {
         final Level level = entity.level();
-        entity.getPayload().forEach(i -> Block.popResource(level, BlockPos.containing(entity.getX(), entity.getY(), entity.getZ()), i));
-        entity.getDestroyData().leavesDrops.forEach(bis -> Block.popResource(level, entity.getDestroyData().cutPos.offset(bis.pos), bis.stack));
+        final DropAggregator aggregator = entity.createDropAggregator();
+        aggregator.addAll(BlockPos.containing(entity.getX(), entity.getY(), entity.getZ()), entity.getPayload());
+        entity.getDestroyData().leavesDrops.forEach(bis -> aggregator.add(entity.getDestroyData().cutPos.offset(bis.pos), bis.stack));
+        aggregator.drop((pos, stack) -> Block.popResource(level, pos, stack));
     }
 
     public boolean shouldDie(FallingTreeEntity entity) {
@@ -0,0 +1,77 @@
+package com.ferreusveritas.dynamictrees.event.handler;
+
+import com.ferreusveritas.dynamictrees.block.leaves.StableLeavesTracker;
+import com.ferreusveritas.dynamictrees.block.rooty.TreeRootIndex;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraftforge.event.level.ChunkDataEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+/**
+ * Loads and saves the per-chunk data Dynamic Trees keeps alongside the chunk, other than world gen data which is
+ * handled by {@link WorldGenEventHandler}.
+ */
+public class ChunkDataEventHandler {
+
+    @SubscribeEvent
+    public void onChunkDataLoad(ChunkDataEvent.Load event) {
+        final LevelAccessor level = event.getLevel();
+        if (!(level instanceof Level) || level.isClientSide()) {
+            return;
+        }
+
+        final ChunkPos chunkPos = event.getChunk().getPos();
+        StableLeavesTracker.loadChunk((Level) level, chunkPos, event.getData());
+        TreeRootIndex.loadChunk((Level) level, chunkPos, event.getData());
+    }
+
+    @SubscribeEvent
+    public void onChunkDataSave(ChunkDataEvent.Save event) {
+        final LevelAccessor level = event.getLevel();
+        if (!(level instanceof Level) || level.isClientSide()) {
+            return;
+        }
+
+        final ChunkAccess chunk = event.getChunk();
+        final ChunkPos chunkPos = chunk.getPos();
+        StableLeavesTracker.saveChunk((Level) level, chunkPos, event.getData());
+        TreeRootIndex.saveChunk((Level) level, chunkPos, event.getData());
+
+        // Chunks are saved after they're unloaded, so this is the last chance to use the data.
+        if (chunk instanceof LevelChunk && !((LevelChunk) chunk).loaded) {
+            StableLeavesTracker.unloadChunk((Level) level, chunkPos);
+            TreeRootIndex.unloadChunk((Level) level, chunkPos);
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        final LevelAccessor level = event.getLevel();
+        if (!(level instanceof Level) || level.isClientSide()) {
+            return;
+        }
+
+        // Chunks that need saving are saved straight after this, so their data is dropped once it has been written.
+        // Clean chunks aren't saved at all, so theirs is dropped now.
+        final ChunkAccess chunk = event.getChunk();
+        if (!chunk.isUnsaved()) {
+            StableLeavesTracker.unloadChunk((Level) level, chunk.getPos());
+            TreeRootIndex.unloadChunk((Level) level, chunk.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(LevelEvent.Unload event) {
+        final LevelAccessor level = event.getLevel();
+        if (level instanceof Level && !level.isClientSide()) {
+            StableLeavesTracker.unloadLevel((Level) level);
+            TreeRootIndex.unloadLevel((Level) level);
+        }
+    }
+
+}
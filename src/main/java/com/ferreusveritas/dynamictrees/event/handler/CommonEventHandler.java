@@ -2,12 +2,26 @@ package com.ferreusveritas.dynamictrees.event.handler;
 
 import com.ferreusveritas.dynamictrees.client.TooltipHandler;
 import com.ferreusveritas.dynamictrees.compat.season.SeasonHelper;
+import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
 import com.ferreusveritas.dynamictrees.event.FutureBreak;
 import com.ferreusveritas.dynamictrees.init.DTClient;
+import com.ferreusveritas.dynamictrees.item.Seed;
+import com.ferreusveritas.dynamictrees.models.FallingTreeEntityModelTrackerCache;
+import com.ferreusveritas.dynamictrees.systems.SeedPlantingQueue;
+import com.ferreusveritas.dynamictrees.systems.substance.LingeringEffectScheduler;
+import com.ferreusveritas.dynamictrees.systems.substance.SubstanceTraversals;
+import com.ferreusveritas.dynamictrees.util.LevelContext;
+import com.ferreusveritas.dynamictrees.util.holderset.HolderSetCaches;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.event.TagsUpdatedEvent;
 import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.player.ItemTooltipEvent;
+import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.LogicalSide;
@@ -23,6 +37,12 @@ public class CommonEventHandler {
         if (event.type == TickEvent.Type.LEVEL && event.phase == TickEvent.Phase.START) {
             SeasonHelper.updateTick(event.level, event.level.getDayTime());
         }
+
+        if (event.type == TickEvent.Type.LEVEL && event.phase == TickEvent.Phase.END) {
+            SubstanceTraversals.run(event.level);
+            LingeringEffectScheduler.tick(event.level);
+            SeedPlantingQueue.tick(event.level);
+        }
     }
 
     @SubscribeEvent
@@ -32,6 +52,44 @@ public class CommonEventHandler {
         }
     }
 
+    @SubscribeEvent
+    public void onEntityJoinLevel(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof ItemEntity itemEntity && itemEntity.getItem().getItem() instanceof Seed seed) {
+            SeedPlantingQueue.add(event.getLevel(), itemEntity, seed);
+        }
+    }
+
+    @SubscribeEvent
+    @OnlyIn(Dist.CLIENT)
+    public void onEntityLeaveLevel(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide() && event.getEntity() instanceof FallingTreeEntity) {
+            FallingTreeEntityModelTrackerCache.removeModel(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public void onChunkWatch(ChunkWatchEvent.Watch event) {
+        LingeringEffectScheduler.sendEffects(event.getPlayer(), event.getLevel(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public void onTagsUpdated(TagsUpdatedEvent event) {
+        HolderSetCaches.invalidateAll();
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level level) {
+            LingeringEffectScheduler.unloadLevel(level);
+            SubstanceTraversals.unloadLevel(level);
+            SeedPlantingQueue.unloadLevel(level);
+            LevelContext.unloadLevel(level);
+            if (level.isClientSide()) {
+                FallingTreeEntityModelTrackerCache.clear();
+            }
+        }
+    }
+
     @SubscribeEvent
     @OnlyIn(Dist.CLIENT)
     public void onItemTooltipAdded(ItemTooltipEvent event) {
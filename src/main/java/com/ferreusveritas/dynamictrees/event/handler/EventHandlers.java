@@ -22,6 +22,8 @@ public final class EventHandlers {
 
     public static final WorldGenEventHandler WORLD_GEN_EVENT_HANDLER = new WorldGenEventHandler();
 
+    public static final ChunkDataEventHandler CHUNK_DATA_EVENT_HANDLER = new ChunkDataEventHandler();
+
     /**
      * Registers common events, called in {@link DynamicTrees#DynamicTrees()}.
      */
@@ -35,6 +37,7 @@ public final class EventHandlers {
         }
 
         bus.register(WORLD_GEN_EVENT_HANDLER);
+        bus.register(CHUNK_DATA_EVENT_HANDLER);
     }
 
     /**
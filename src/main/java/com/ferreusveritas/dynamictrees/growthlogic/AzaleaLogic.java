@@ -25,7 +25,7 @@ public class AzaleaLogic extends GrowthLogicKit {
         // Apply default chances for each non-origin direction
         for (Direction dir : Direction.values()) {
             if (dir != originDir) {
-                BlockPos deltaPos = context.pos().relative(dir);
+                BlockPos deltaPos = context.probePos().setWithOffset(context.pos(), dir);
                 // Check probability for surrounding blocks.
                 // Typically, Air: 1, Leaves: 2, Branches: 2 + radius
                 BlockState deltaBlockState = context.level().getBlockState(deltaPos);
@@ -5,6 +5,7 @@ import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionManipulation
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionSelectionContext;
 import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 
@@ -90,6 +91,7 @@ public class ConiferLogic extends GrowthLogicKit {
         long day = context.level().getGameTime() / 24000L;
         int month = (int) day / 30;//Change the hashs every in-game month
 
-        return  (CoordUtils.coordHashCode(context.pos().above(month), 2) % configuration.get(HEIGHT_VARIATION));
+        final BlockPos pos = context.pos();
+        return  (CoordUtils.coordHashCode(pos.getX(), pos.getY() + month, pos.getZ(), 2) % configuration.get(HEIGHT_VARIATION));
     }
 }
@@ -6,6 +6,7 @@ import com.ferreusveritas.dynamictrees.api.configuration.ConfigurableRegistryEnt
 import com.ferreusveritas.dynamictrees.api.configuration.ConfigurationProperty;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionManipulationContext;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionSelectionContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
 import com.ferreusveritas.dynamictrees.init.DTTrees;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
@@ -66,18 +67,18 @@ public abstract class GrowthLogicKit extends ConfigurableRegistryEntry<GrowthLog
      * @return the direction for the signal to turn to
      */
     public Direction selectNewDirection(GrowthLogicKitConfiguration configuration, DirectionSelectionContext context) {
+        final GrowthScratch scratch = GrowthScratch.get();
+
         // Prevent branches growing on the ground.
         if (context.signal().numSteps + 1 <= configuration.getLowestBranchHeight(
-                new PositionalSpeciesContext(context.level(), context.signal().rootPos, context.species())
+                scratch.positional(context.level(), context.signal().rootPos, context.species())
         ) && !context.signal().getSpecies().getLeavesProperties().canGrowOnGround()) {
             return context.signal().defaultDir;
         }
 
         // Populate the direction probability map.
         final int[] probMap = configuration.populateDirectionProbabilityMap(
-                new DirectionManipulationContext(context.level(), context.pos(), context.species(), context.branch(),
-                        context.signal(), context.branch().getRadius(context.level().getBlockState(context.pos())),
-                        new int[6])
+                scratch.manipulation(context, context.branch().getRadius(context.level().getBlockState(context.pos())))
         );
 
         // Select a direction from the probability map.
@@ -112,7 +113,7 @@ public abstract class GrowthLogicKit extends ConfigurableRegistryEntry<GrowthLog
 
         for (Direction dir : Direction.values()) {
             if (!dir.equals(originDir)) {
-                final BlockPos deltaPos = context.pos().relative(dir);
+                final BlockPos deltaPos = context.probePos().setWithOffset(context.pos(), dir);
                 // Check probability for surrounding blocks.
                 // Typically, Air: 1, Leaves: 2, Branches: 2 + radius
                 final BlockState deltaBlockState = context.level().getBlockState(deltaPos);
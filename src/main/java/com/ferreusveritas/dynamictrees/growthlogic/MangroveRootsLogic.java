@@ -3,6 +3,7 @@ package com.ferreusveritas.dynamictrees.growthlogic;
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionManipulationContext;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionSelectionContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
 import com.ferreusveritas.dynamictrees.tree.species.MangroveSpecies;
 import com.ferreusveritas.dynamictrees.util.MathHelper;
@@ -32,7 +33,7 @@ public class MangroveRootsLogic extends GrowthLogicKit {
                 //Never go up
                 if (dir.equals(defaultDir.getOpposite())) probMap[dir.get3DDataValue()] = 0;
 
-                final BlockPos deltaPos = context.pos().relative(dir);
+                final BlockPos deltaPos = context.probePos().setWithOffset(context.pos(), dir);
                 // Check probability for surrounding blocks.
                 // Typically, Air: 1, Leaves: 2, Branches: 2 + radius
                 final BlockState deltaBlockState = context.level().getBlockState(deltaPos);
@@ -55,8 +56,7 @@ public class MangroveRootsLogic extends GrowthLogicKit {
     public Direction selectNewDirection(GrowthLogicKitConfiguration configuration, DirectionSelectionContext context) {
         // Populate the direction probability map.
         final int[] probMap = configuration.populateDirectionProbabilityMap(
-                new DirectionManipulationContext(context.level(), context.pos(), context.species(), context.branch(),
-                        context.signal(), context.branch().getRadius(context.level().getBlockState(context.pos())), new int[6])
+                GrowthScratch.get().manipulation(context, context.branch().getRadius(context.level().getBlockState(context.pos())))
         );
 
         // Select a direction from the probability map.
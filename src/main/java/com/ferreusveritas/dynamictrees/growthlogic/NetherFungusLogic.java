@@ -4,6 +4,7 @@ import com.ferreusveritas.dynamictrees.api.TreeHelper;
 import com.ferreusveritas.dynamictrees.api.configuration.ConfigurationProperty;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionManipulationContext;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionSelectionContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
 import net.minecraft.core.BlockPos;
@@ -46,13 +47,14 @@ public class NetherFungusLogic extends GrowthLogicKit {
         final int[] probMap = super.populateDirectionProbabilityMap(configuration, context);
 
         if (context.signal().isInTrunk()) {
-            if (TreeHelper.isBranch(context.level().getBlockState(context.pos().above())) &&
-                    !TreeHelper.isBranch(context.level().getBlockState(context.pos().above(3)))) {
-                context.probMap(new int[]{0, 0, 0, 0, 0, 0});
-            } else if (!context.species().isMegaSpecies()) {
+            final BlockPos.MutableBlockPos checkPos = GrowthScratch.get().offsetPos().set(context.pos());
+            // Below the cap only up is changed. The cleared map that used to be set on the context was never read.
+            final boolean belowCap = TreeHelper.isBranch(context.level().getBlockState(checkPos.move(Direction.UP))) &&
+                    !TreeHelper.isBranch(context.level().getBlockState(checkPos.move(Direction.UP, 2)));
+            if (!belowCap && !context.species().isMegaSpecies()) {
                 for (Direction direction : CoordUtils.HORIZONTALS) {
                     if (TreeHelper.isBranch(
-                            context.level().getBlockState(context.pos().offset(direction.getOpposite().getNormal())))) {
+                            context.level().getBlockState(checkPos.setWithOffset(context.pos(), direction.getOpposite())))) {
                         probMap[direction.get3DDataValue()] = 0;
                     }
                 }
@@ -67,14 +69,13 @@ public class NetherFungusLogic extends GrowthLogicKit {
     private float getHashedVariation(GrowthLogicKitConfiguration configuration, Level level, BlockPos pos) {
         long day = level.getGameTime() / 24000L;
         int month = (int) day / 30;//Change the hashs every in-game month
-        return (CoordUtils.coordHashCode(pos.above(month), 2) %
+        return (CoordUtils.coordHashCode(pos.getX(), pos.getY() + month, pos.getZ(), 2) %
                 configuration.get(HEIGHT_VARIATION));//Vary the height energy by a psuedorandom hash function
     }
 
     @Override
     public float getEnergy(GrowthLogicKitConfiguration configuration, PositionalSpeciesContext context) {
-        return Math.min(configuration.getLowestBranchHeight(
-                        new PositionalSpeciesContext(context.level(), context.pos(), context.species())) +
+        return Math.min(configuration.getLowestBranchHeight(context) +
                         configuration.get(MIN_CAP_HEIGHT) +
                         getHashedVariation(configuration, context.level(), context.pos()) / 1.5f,
                 super.getEnergy(configuration, context));
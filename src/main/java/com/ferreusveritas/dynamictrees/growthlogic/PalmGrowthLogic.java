@@ -3,6 +3,7 @@ package com.ferreusveritas.dynamictrees.growthlogic;
 import com.ferreusveritas.dynamictrees.growthlogic.context.DirectionManipulationContext;
 import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 
@@ -31,9 +32,10 @@ public class PalmGrowthLogic extends GrowthLogicKit {
     public float getEnergy(GrowthLogicKitConfiguration configuration, PositionalSpeciesContext context) {
         long day = context.level().getGameTime() / 24000L;
         int month = (int) day / 30; // Change the hashs every in-game month
+        final BlockPos pos = context.pos();
         return super.getEnergy(configuration, context) *
                 context.species().biomeSuitability(context.level(), context.pos()) +
-                (CoordUtils.coordHashCode(context.pos().above(month), 3) %
+                (CoordUtils.coordHashCode(pos.getX(), pos.getY() + month, pos.getZ(), 3) %
                         3); // Vary the height energy by a psuedorandom hash function
 
     }
@@ -10,8 +10,9 @@ import net.minecraft.world.level.Level;
  * @author Harley O'Connor
  */
 public class DirectionManipulationContext extends DirectionSelectionContext {
-    private final int radius;
+    private int radius;
     private int[] probMap;
+    private final BlockPos.MutableBlockPos probePos = new BlockPos.MutableBlockPos();
 
     public DirectionManipulationContext(Level level, BlockPos pos, Species species,
                                         BranchBlock branch,
@@ -21,6 +22,15 @@ public class DirectionManipulationContext extends DirectionSelectionContext {
         this.probMap = probMap;
     }
 
+    /**
+     * Reuses this context for another step of a signal, for {@link GrowthScratch}.
+     */
+    void set(DirectionSelectionContext context, int radius, int[] probMap) {
+        this.set(context.level(), context.pos(), context.species(), context.branch(), context.signal());
+        this.radius = radius;
+        this.probMap = probMap;
+    }
+
     public int radius() {
         return radius;
     }
@@ -32,4 +42,12 @@ public class DirectionManipulationContext extends DirectionSelectionContext {
     public void probMap(int[] probMap) {
         this.probMap = probMap;
     }
+
+    /**
+     * @return a mutable position for probing the blocks around {@link #pos()} without allocating, which is only valid
+     * until it is next set
+     */
+    public BlockPos.MutableBlockPos probePos() {
+        return probePos;
+    }
 }
@@ -11,8 +11,8 @@ import net.minecraft.world.level.Level;
  */
 public class DirectionSelectionContext extends PositionalSpeciesContext {
 
-    private final BranchBlock branch;
-    private final GrowSignal signal;
+    private BranchBlock branch;
+    private GrowSignal signal;
 
     public DirectionSelectionContext(Level level, BlockPos pos, Species species, BranchBlock branch, GrowSignal signal) {
         super(level, pos, species);
@@ -20,6 +20,15 @@ public class DirectionSelectionContext extends PositionalSpeciesContext {
         this.signal = signal;
     }
 
+    /**
+     * Reuses this context for another step of a signal, for {@link GrowthScratch}.
+     */
+    void set(Level level, BlockPos pos, Species species, BranchBlock branch, GrowSignal signal) {
+        this.set(level, pos, species);
+        this.branch = branch;
+        this.signal = signal;
+    }
+
     public BranchBlock branch() {
         return branch;
     }
@@ -0,0 +1,75 @@
+package com.ferreusveritas.dynamictrees.growthlogic.context;
+
+import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
+import com.ferreusveritas.dynamictrees.growthlogic.GrowthLogicKit;
+import com.ferreusveritas.dynamictrees.systems.GrowSignal;
+import com.ferreusveritas.dynamictrees.tree.species.Species;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+import java.util.Arrays;
+
+/**
+ * Per-thread contexts for steering {@linkplain GrowSignal grow signals}, so that each step of a signal reuses the same
+ * context objects and probability map rather than allocating new ones. Each context is overwritten the next time it is
+ * requested on the same thread, so contexts from here must not be held beyond the call they are passed to.
+ */
+public final class GrowthScratch {
+
+    private static final ThreadLocal<GrowthScratch> SCRATCH = ThreadLocal.withInitial(GrowthScratch::new);
+
+    private final PositionalSpeciesContext positionalContext =
+            new PositionalSpeciesContext(null, BlockPos.ZERO, null);
+    private final DirectionSelectionContext selectionContext =
+            new DirectionSelectionContext(null, BlockPos.ZERO, null, null, null);
+    private final DirectionManipulationContext manipulationContext =
+            new DirectionManipulationContext(null, BlockPos.ZERO, null, null, null, 0, null);
+    private final int[] probMap = new int[6];
+    private final BlockPos.MutableBlockPos offsetPos = new BlockPos.MutableBlockPos();
+
+    private GrowthScratch() {
+    }
+
+    public static GrowthScratch get() {
+        return SCRATCH.get();
+    }
+
+    /**
+     * @return the shared positional context, set to the given values
+     */
+    public PositionalSpeciesContext positional(Level level, BlockPos pos, Species species) {
+        this.positionalContext.set(level, pos, species);
+        return this.positionalContext;
+    }
+
+    /**
+     * @return the shared direction selection context, set to the given values
+     */
+    public DirectionSelectionContext selection(Level level, BlockPos pos, Species species, BranchBlock branch,
+                                               GrowSignal signal) {
+        this.selectionContext.set(level, pos, species, branch, signal);
+        return this.selectionContext;
+    }
+
+    /**
+     * Gets the shared direction manipulation context for populating the probability map in
+     * {@link GrowthLogicKit#selectNewDirection}, with the map cleared.
+     *
+     * @param context the context the direction is being selected for
+     * @param radius  the radius of the branch the signal is in
+     * @return the shared direction manipulation context
+     */
+    public DirectionManipulationContext manipulation(DirectionSelectionContext context, int radius) {
+        Arrays.fill(this.probMap, 0);
+        this.manipulationContext.set(context, radius, this.probMap);
+        return this.manipulationContext;
+    }
+
+    /**
+     * @return the shared mutable position, for growth logic kits to look at blocks around a context's position
+     */
+    public BlockPos.MutableBlockPos offsetPos() {
+        return this.offsetPos;
+    }
+
+}
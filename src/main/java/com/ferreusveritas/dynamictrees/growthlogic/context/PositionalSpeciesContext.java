@@ -8,9 +8,9 @@ import net.minecraft.world.level.Level;
  * @author Harley O'Connor
  */
 public class PositionalSpeciesContext {
-    private final Level level;
-    private final BlockPos pos;
-    private final Species species;
+    private Level level;
+    private BlockPos pos;
+    private Species species;
 
     public PositionalSpeciesContext(Level level, BlockPos pos, Species species) {
         this.level = level;
@@ -18,6 +18,15 @@ public class PositionalSpeciesContext {
         this.species = species;
     }
 
+    /**
+     * Reuses this context for another position, for {@link GrowthScratch}.
+     */
+    void set(Level level, BlockPos pos, Species species) {
+        this.level = level;
+        this.pos = pos;
+        this.species = species;
+    }
+
     public Level level() {
         return level;
     }
@@ -41,6 +41,8 @@ public class DTConfigs {
     public static final ForgeConfigSpec.DoubleValue ROOTY_BLOCK_HARDNESS_MULTIPLIER;
     public static final ForgeConfigSpec.EnumValue<DynamicTrees.SwampOakWaterState> SWAMP_OAKS_IN_WATER;
     public static final ForgeConfigSpec.IntValue BONE_MEAL_GROWTH_PULSES;
+    public static final ForgeConfigSpec.BooleanValue SUPPRESS_STABLE_LEAVES_TICKS;
+    public static final ForgeConfigSpec.IntValue STABLE_LEAVES_RECHECK_CHANCE;
 
     public static final ForgeConfigSpec.BooleanValue IS_LEAVES_PASSABLE;
     public static final ForgeConfigSpec.BooleanValue VANILLA_LEAVES_COLLISION;
@@ -49,9 +51,12 @@ public class DTConfigs {
     public static final ForgeConfigSpec.EnumValue<DynamicTrees.AxeDamage> AXE_DAMAGE_MODE;
     public static final ForgeConfigSpec.BooleanValue ENABLE_FALLING_TREES;
     public static final ForgeConfigSpec.BooleanValue ENABLE_FALLING_TREE_DAMAGE;
+    public static final ForgeConfigSpec.BooleanValue PREDICT_FALLING_TREES;
     public static final ForgeConfigSpec.DoubleValue FALLING_TREE_DAMAGE_MULTIPLIER;
     public static final ForgeConfigSpec.BooleanValue DIRT_BUCKET_PLACES_DIRT;
     public static final ForgeConfigSpec.BooleanValue SLOPPY_BREAK_DROPS;
+    public static final ForgeConfigSpec.IntValue DROP_AGGREGATION_CELL_SIZE;
+    public static final ForgeConfigSpec.EnumValue<DynamicTrees.DropDelivery> DROP_DELIVERY;
     public static final ForgeConfigSpec.IntValue MIN_RADIUS_FOR_STRIP;
     public static final ForgeConfigSpec.BooleanValue ENABLE_STRIP_RADIUS_REDUCTION;
     public static final ForgeConfigSpec.BooleanValue CAN_BONE_MEAL_FRUIT;
@@ -125,6 +130,10 @@ public class DTConfigs {
                 defineEnum("swampOaksInWater", DynamicTrees.SwampOakWaterState.ROOTED);
         BONE_MEAL_GROWTH_PULSES = SERVER_BUILDER.comment("The amount of growth pulses to send when bone meal is applied to a tree. Warning: setting values higher than 64 is not recommended other than for testing purposes. ").
                 defineInRange("boneMealGrowthPulses", 1, 1, 512);
+        SUPPRESS_STABLE_LEAVES_TICKS = SERVER_BUILDER.comment("If enabled, leaves whose last update changed nothing are skipped by random ticks until a nearby branch, leaves or block changes.").
+                define("suppressStableLeavesTicks", true);
+        STABLE_LEAVES_RECHECK_CHANCE = SERVER_BUILDER.comment("Stable leaves are still updated on 1 in X of their random ticks, to pick up changes such as light that don't come from nearby blocks. Set to 1 to always update them.").
+                defineInRange("stableLeavesRecheckChance", 16, 1, 1024);
         SERVER_BUILDER.pop();
 
         SERVER_BUILDER.comment("Interaction Settings").push("interaction");
@@ -142,12 +151,18 @@ public class DTConfigs {
                 define("enableFallingTrees", true);
         ENABLE_FALLING_TREE_DAMAGE = SERVER_BUILDER.comment("If enabled then trees will harm living entities when falling").
                 define("enableFallingTreeDamage", true);
+        PREDICT_FALLING_TREES = SERVER_BUILDER.comment("If enabled the server works out how a felled tree will fall as soon as it is cut and replays that each tick, rather than testing for collisions every tick. Clients animate the fall themselves either way").
+                define("predictFallingTrees", true);
         FALLING_TREE_DAMAGE_MULTIPLIER = SERVER_BUILDER.comment("Multiplier for damage incurred by a falling tree").
                 defineInRange("fallingTreeDamageMultiplier", 1.0, 0.0, 100.0);
         DIRT_BUCKET_PLACES_DIRT = SERVER_BUILDER.comment("If enabled the Dirt Bucket will place a dirt block on right-click").
                 define("dirtBucketPlacesDirt", true);
         SLOPPY_BREAK_DROPS = SERVER_BUILDER.comment("If enabled then improperly broken trees(not by an entity) will still drop wood.").
                 define("sloppyBreakDrops", false);
+        DROP_AGGREGATION_CELL_SIZE = SERVER_BUILDER.comment("The size of the cubic cells in which matching drops from a destroyed tree are merged into one item entity. Set to 0 to drop every stack where it came from").
+                defineInRange("dropAggregationCellSize", 4, 0, 16);
+        DROP_DELIVERY = SERVER_BUILDER.comment("Where drops from a tree cut down by a player go. WORLD: Dropped as items. INVENTORY: Given to the player, with anything that doesn't fit dropped as items.").
+                defineEnum("dropDelivery", DynamicTrees.DropDelivery.WORLD);
         MIN_RADIUS_FOR_STRIP = SERVER_BUILDER.comment("The minimum radius a branch must have before its able to be stripped. 8 = Full block size. Set to 0 to disable stripping trees").
                 defineInRange("minRadiusForStrip", 6, 0, 24);
         ENABLE_STRIP_RADIUS_REDUCTION = SERVER_BUILDER.comment("If enabled, stripping a branch will decrease its radius by one").
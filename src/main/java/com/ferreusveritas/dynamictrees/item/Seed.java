@@ -4,6 +4,7 @@ import com.ferreusveritas.dynamictrees.block.PottedSaplingBlock;
 import com.ferreusveritas.dynamictrees.event.SeedVoluntaryPlantEvent;
 import com.ferreusveritas.dynamictrees.init.DTConfigs;
 import com.ferreusveritas.dynamictrees.init.DTRegistries;
+import com.ferreusveritas.dynamictrees.systems.SeedPlantingQueue;
 import com.ferreusveritas.dynamictrees.tree.species.Species;
 import com.ferreusveritas.dynamictrees.util.LazyValue;
 import com.ferreusveritas.dynamictrees.util.LevelContext;
@@ -87,31 +88,29 @@ public class Seed extends Item implements IPlantable {
         return species;
     }
 
+    /**
+     * Overrides the default lifespan of a dropped seed with its {@link #getTimeToLive(ItemStack) time to live}, plus
+     * the second before despawning in which it tries to plant itself (see {@link SeedPlantingQueue}).
+     */
     @Override
-    public boolean onEntityItemUpdate(ItemStack stack, ItemEntity entityItem) {
-        if (entityItem.lifespan == 6000) { // 6000 (5 minutes) is the default lifespan for an entity item
-            entityItem.lifespan = getTimeToLive(entityItem.getItem()) + 20; // override default lifespan with new value + 20 ticks (1 second)
-            if (entityItem.lifespan == 6000) {
-                entityItem.lifespan = 6001; // Ensure this isn't run again
-            }
-        }
+    public int getEntityLifespan(ItemStack itemStack, Level level) {
+        return getTimeToLive(itemStack) + SeedPlantingQueue.PLANT_BEFORE_DESPAWN;
+    }
 
-        if (entityItem.tickCount >= entityItem.lifespan - 20) {//Perform this action 20 ticks(1 second) before dying
-            final Level level = entityItem.level();
-            if (!level.isClientSide) {//Server side only
-                final ItemStack seedStack = entityItem.getItem();
-                final BlockPos pos = new BlockPos(entityItem.blockPosition());
-                final SeedVoluntaryPlantEvent seedVolEvent = new SeedVoluntaryPlantEvent(entityItem, this.getSpecies().selfOrLocationOverride(level, pos), pos, this.shouldPlant(level, pos, seedStack));
-                MinecraftForge.EVENT_BUS.post(seedVolEvent);
-                if (!seedVolEvent.isCanceled() && seedVolEvent.getWillPlant()) {
-                    this.doPlanting(level, pos, null, seedStack);
-                }
-                seedStack.setCount(0);
-            }
-            entityItem.kill();
+    /**
+     * Plants the given dropped seed if it {@link #shouldPlant(Level, BlockPos, ItemStack) should be planted} and the
+     * {@link SeedVoluntaryPlantEvent} allows it, then empties its stack. Called by the {@link SeedPlantingQueue} shortly
+     * before the seed despawns.
+     */
+    public void plantVoluntarily(Level level, ItemEntity entityItem) {
+        final ItemStack seedStack = entityItem.getItem();
+        final BlockPos pos = entityItem.blockPosition();
+        final SeedVoluntaryPlantEvent seedVolEvent = new SeedVoluntaryPlantEvent(entityItem, this.getSpecies().selfOrLocationOverride(level, pos), pos, this.shouldPlant(level, pos, seedStack));
+        MinecraftForge.EVENT_BUS.post(seedVolEvent);
+        if (!seedVolEvent.isCanceled() && seedVolEvent.getWillPlant()) {
+            this.doPlanting(level, pos, null, seedStack);
         }
-
-        return false;
+        seedStack.setCount(0);
     }
 
     public boolean doPlanting(Level level, BlockPos pos, @Nullable Player planter, ItemStack seedStack) {
@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
 
@@ -37,11 +36,17 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
     protected final Species species;
 
     public FallingTreeEntityModel(FallingTreeEntity entity) {
-        Level world = entity.getCommandSenderWorld();
+        this(entity, new ArrayList<>());
+    }
+
+    /**
+     * @param quadBuffer an empty list to fill with the tree's quads, such as one reused from a previous model
+     */
+    public FallingTreeEntityModel(FallingTreeEntity entity, List<TreeQuadData> quadBuffer) {
         BranchDestructionData destructionData = entity.getDestroyData();
         Species species = destructionData.species;
 
-        quads = generateTreeQuads(entity);
+        quads = generateTreeQuads(entity, quadBuffer);
 //		quadTints = entity.getQuadTints();
         this.species = species;
         entityId = entity.getId();
@@ -62,12 +67,19 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
     }
 
     public static List<TreeQuadData> generateTreeQuads(FallingTreeEntity entity) {
+        return generateTreeQuads(entity, new ArrayList<>());
+    }
+
+    /**
+     * Adds the quads of the given falling tree to the given list.
+     *
+     * @return the list given
+     */
+    public static List<TreeQuadData> generateTreeQuads(FallingTreeEntity entity, List<TreeQuadData> treeQuads) {
         BlockRenderDispatcher dispatcher = Minecraft.getInstance().getBlockRenderer();
         BranchDestructionData destructionData = entity.getDestroyData();
         Direction cutDir = destructionData.cutDir;
 
-        ArrayList<TreeQuadData> treeQuads = new ArrayList<>();
-
         int[] connectionArray = new int[6];
 
         if (destructionData.getNumBranches() > 0) {
@@ -85,9 +97,9 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
                     if (rootyBlock != null && rootyBlock.fallWithTree(bottomState, entity.level(), rootPos, !destructionData.getRelativeCutPos().equals(BlockPos.ZERO))) {
                         BakedModel rootyModel = dispatcher.getBlockModel(bottomState);
                         BlockPos cutOffset = destructionData.getRelativeCutPos();
-                        treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(rootyModel, bottomState, new Vec3(cutOffset.getX(), cutOffset.getY()-1, cutOffset.getZ()), ModelData.EMPTY),
+                        addTreeQuadData(treeQuads, QuadManipulator.getQuads(rootyModel, bottomState, new Vec3(cutOffset.getX(), cutOffset.getY()-1, cutOffset.getZ()), ModelData.EMPTY),
                                 destructionData.species.getFamily().getRootColor(bottomState, rootyBlock.getColorFromBark()),
-                                bottomState));
+                                bottomState);
                         rootyBlockAdded = true;
                     }
                 }
@@ -99,9 +111,9 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
                 if (!rootyBlockAdded && connectionArray[cutDir.get3DDataValue()] > 0) {
                     BlockPos offsetPos = destructionData.getRelativeCutPos().relative(cutDir);
                     float offset = (8 - Math.min(((BranchBlock) exState.getBlock()).getRadius(exState), BranchBlock.MAX_RADIUS)) / 16f;
-                    treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(branchModel, exState, new Vec3(offsetPos.getX(), offsetPos.getY(), offsetPos.getZ()).scale(offset), new Direction[]{null},
+                    addTreeQuadData(treeQuads, QuadManipulator.getQuads(branchModel, exState, new Vec3(offsetPos.getX(), offsetPos.getY(), offsetPos.getZ()).scale(offset), new Direction[]{null},
                                     new ModelConnections(cutDir).setFamily(TreeHelper.getBranch(exState)).toModelData()),
-                            exState));
+                            exState);
                     bottomRingsAdded = true;
                 }
 
@@ -119,8 +131,8 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
                     if (index == 0 && bottomRingsAdded) {
                         modelConnections.setForceRing(cutDir);
                     }
-                    treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(branchModel, exState, new Vec3(relPos.getX(), relPos.getY(), relPos.getZ()), modelConnections.toModelData()),
-                            exState));
+                    addTreeQuadData(treeQuads, QuadManipulator.getQuads(branchModel, exState, new Vec3(relPos.getX(), relPos.getY(), relPos.getZ()), modelConnections.toModelData()),
+                            exState);
                 }
 
                 //Draw the leaves
@@ -128,16 +140,16 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
                 if (leavesClusters != null) {
                     for (Map.Entry<BlockPos, BlockState> leafLoc : leavesClusters.entrySet()) {
                         BlockState leafState = leafLoc.getValue();
-                        treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(dispatcher.getBlockModel(leafState), leafState, new Vec3(leafLoc.getKey().getX(), leafLoc.getKey().getY(), leafLoc.getKey().getZ()), ModelData.EMPTY),
-                                species.leafColorMultiplier(entity.level(), cutPos.offset(leafLoc.getKey())), leafState));
+                        addTreeQuadData(treeQuads, QuadManipulator.getQuads(dispatcher.getBlockModel(leafState), leafState, new Vec3(leafLoc.getKey().getX(), leafLoc.getKey().getY(), leafLoc.getKey().getZ()), ModelData.EMPTY),
+                                species.leafColorMultiplier(entity.level(), cutPos.offset(leafLoc.getKey())), leafState);
                     }
                 } else {
                     for (int index = 0; index < destructionData.getNumLeaves(); index++) {
                         BlockPos relPos = destructionData.getLeavesRelPos(index);
                         BlockState leafState = destructionData.getLeavesBlockState(index);
                         BakedModel leavesModel = dispatcher.getBlockModel(leafState);
-                        treeQuads.addAll(toTreeQuadData(QuadManipulator.getQuads(leavesModel, leafState, new Vec3(relPos.getX(), relPos.getY(), relPos.getZ()), ModelData.EMPTY),
-                                destructionData.getLeavesProperties(index).treeFallColorMultiplier(leafState, entity.level(), cutPos.offset(relPos)), leafState));
+                        addTreeQuadData(treeQuads, QuadManipulator.getQuads(leavesModel, leafState, new Vec3(relPos.getX(), relPos.getY(), relPos.getZ()), ModelData.EMPTY),
+                                destructionData.getLeavesProperties(index).treeFallColorMultiplier(leafState, entity.level(), cutPos.offset(relPos)), leafState);
                     }
                 }
 
@@ -181,7 +193,18 @@ public class FallingTreeEntityModel extends EntityModel<FallingTreeEntity> {
     }
 
     public static List<TreeQuadData> toTreeQuadData(List<BakedQuad> bakedQuads, int defaultColor, BlockState state) {
-        return bakedQuads.stream().map(bakedQuad -> new TreeQuadData(bakedQuad, defaultColor, state)).collect(Collectors.toList());
+        return addTreeQuadData(new ArrayList<>(bakedQuads.size()), bakedQuads, defaultColor, state);
+    }
+
+    public static List<TreeQuadData> addTreeQuadData(List<TreeQuadData> treeQuads, List<BakedQuad> bakedQuads, BlockState state) {
+        return addTreeQuadData(treeQuads, bakedQuads, 0xFFFFFF, state);
+    }
+
+    public static List<TreeQuadData> addTreeQuadData(List<TreeQuadData> treeQuads, List<BakedQuad> bakedQuads, int defaultColor, BlockState state) {
+        for (BakedQuad bakedQuad : bakedQuads) {
+            treeQuads.add(new TreeQuadData(bakedQuad, defaultColor, state));
+        }
+        return treeQuads;
     }
 
     public static final class TreeQuadData {
@@ -1,32 +1,103 @@
 package com.ferreusveritas.dynamictrees.models;
 
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
 
+/**
+ * Caches the model of each falling tree on the client, keyed by entity id. Models are removed when their entity leaves
+ * the level (see {@link com.ferreusveritas.dynamictrees.event.handler.CommonEventHandler}), and when the quads held by
+ * all models exceed {@link #MAX_CACHED_QUADS}, the least recently rendered are evicted to be rebuilt if needed again.
+ * The quad lists of removed models are kept in a small pool and refilled by the next models built.
+ */
 @OnlyIn(Dist.CLIENT)
 public class FallingTreeEntityModelTrackerCache {
 
-    private static ConcurrentMap<Integer, FallingTreeEntityModel> models = new ConcurrentHashMap<>();
+    /** The most quads kept across all cached models before the least recently rendered are evicted. */
+    private static final int MAX_CACHED_QUADS = 1 << 18;
+    /** The number of quad lists kept for reuse, and the most quads a list can hold to be kept. */
+    private static final int MAX_POOLED_BUFFERS = 4;
+    private static final int MAX_POOLED_QUADS = 1 << 14;
 
-    public static FallingTreeEntityModel getOrCreateModel(FallingTreeEntity entity) {
-        return models.computeIfAbsent(entity.getId(), e -> new FallingTreeEntityModel(entity));
+    private static final Map<Integer, FallingTreeEntityModel> models = new LinkedHashMap<>(16, 0.75f, true);
+    private static final Deque<List<FallingTreeEntityModel.TreeQuadData>> quadBuffers = new ArrayDeque<>();
+    private static int cachedQuads = 0;
+
+    public static synchronized FallingTreeEntityModel getOrCreateModel(FallingTreeEntity entity) {
+        FallingTreeEntityModel model = models.get(entity.getId());
+        if (model == null) {
+            final List<FallingTreeEntityModel.TreeQuadData> buffer = quadBuffers.pollFirst();
+            model = new FallingTreeEntityModel(entity, buffer == null ? new ArrayList<>() : buffer);
+            models.put(entity.getId(), model);
+            cachedQuads += model.getQuads().size();
+            evictOverCap(model);
+        }
+        return model;
+    }
+
+    /**
+     * Evicts the least recently rendered models, other than the one given, until the quads cached are within the cap.
+     */
+    private static void evictOverCap(FallingTreeEntityModel keep) {
+        final Iterator<FallingTreeEntityModel> iterator = models.values().iterator();
+        while (cachedQuads > MAX_CACHED_QUADS && iterator.hasNext()) {
+            final FallingTreeEntityModel model = iterator.next();
+            if (model != keep) {
+                iterator.remove();
+                release(model);
+            }
+        }
+    }
+
+    public static synchronized void removeModel(Entity entity) {
+        final FallingTreeEntityModel model = models.remove(entity.getId());
+        if (model != null) {
+            release(model);
+        }
+    }
+
+    private static void release(FallingTreeEntityModel model) {
+        final List<FallingTreeEntityModel.TreeQuadData> quads = model.getQuads();
+        cachedQuads -= quads.size();
+        if (quadBuffers.size() < MAX_POOLED_BUFFERS && quads.size() <= MAX_POOLED_QUADS) {
+            quads.clear();
+            quadBuffers.addFirst(quads);
+        }
     }
 
     public static void cleanupModels(Level level, FallingTreeEntity entity) {
-        models.remove(entity.getId());
-        cleanupModels(level);
+        removeModel(entity);
     }
 
-    public static void cleanupModels(Level level) {
-        models = models.entrySet().stream()
-                .filter(map -> level.getEntity(map.getKey()) != null)
-                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, Map.Entry::getValue));
+    /**
+     * Removes the models of every entity no longer in the given level. Models are normally removed as their entity
+     * leaves, so this is only needed if that may have been missed.
+     */
+    public static synchronized void cleanupModels(Level level) {
+        final Iterator<Map.Entry<Integer, FallingTreeEntityModel>> iterator = models.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Integer, FallingTreeEntityModel> entry = iterator.next();
+            if (level.getEntity(entry.getKey()) == null) {
+                iterator.remove();
+                release(entry.getValue());
+            }
+        }
     }
+
+    public static synchronized void clear() {
+        models.clear();
+        quadBuffers.clear();
+        cachedQuads = 0;
+    }
+
 }
@@ -40,6 +40,14 @@ public abstract class PalmLeavesBakedModel implements IDynamicBakedModel {
 
     protected final BakedModel[] bakedFronds = new BakedModel[8]; // 8 = Number of surrounding blocks
 
+    /**
+     * The quads of each of the {@link #bakedFronds}, copied into an immutable list the first time a leaves block facing
+     * that way is meshed, so they can be returned directly from then on. The frond models are the same for every
+     * state with the same direction, so that is all they are keyed by.
+     */
+    @SuppressWarnings("unchecked")
+    private final List<BakedQuad>[] frondQuads = new List[8];
+
     public PalmLeavesBakedModel(ResourceLocation frondsResLoc, Function<Material, TextureAtlasSprite> spriteGetter){
         this.blockModel = new BlockModel(null, new ArrayList<>(), new HashMap<>(), false, BlockModel.GuiLight.FRONT, ItemTransforms.NO_TRANSFORMS, new ArrayList<>());
         frondsTexture = spriteGetter.apply(new Material(InventoryMenu.BLOCK_ATLAS, frondsResLoc));
@@ -55,14 +63,17 @@ public abstract class PalmLeavesBakedModel implements IDynamicBakedModel {
         if (state == null || side != null)
             return Collections.emptyList();
 
-        LinkedList<BakedQuad> quads = new LinkedList<>();
-
         int direction = state.getValue(PalmLeavesProperties.DynamicPalmLeavesBlock.DIRECTION);
 
-        if (direction != 0)
-            quads.addAll(bakedFronds[direction-1].getQuads(state, null, rand, extraData, renderType));
-
+        if (direction == 0)
+            return Collections.emptyList();
 
+        List<BakedQuad> quads = frondQuads[direction-1];
+        if (quads == null) {
+            // Immutable lists are safely published through their final fields, so a race here only repeats the copy.
+            quads = List.copyOf(bakedFronds[direction-1].getQuads(state, null, rand, extraData, renderType));
+            frondQuads[direction-1] = quads;
+        }
         return quads;
     }
 
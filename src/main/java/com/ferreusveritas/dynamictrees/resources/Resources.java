@@ -110,6 +110,21 @@ public final class Resources {
                 FEATURE_CANCELLATION_LOADER,
                 BIOME_POPULATORS_LOADER
         );
+
+        // Leaves properties, soil properties, configuration templates, fruits and pods don't depend on anything, so
+        // are applied as soon as they're prepared.
+        MANAGER.addDependencies(LEAVES_PROPERTIES_LOADER);
+        MANAGER.addDependencies(SOIL_PROPERTIES_LOADER);
+        MANAGER.addDependencies(GEN_FEATURE_TEMPLATE_LOADER);
+        MANAGER.addDependencies(GROWTH_LOGIC_KIT_TEMPLATE_LOADER);
+        MANAGER.addDependencies(FRUIT_LOADER);
+        MANAGER.addDependencies(POD_LOADER);
+        MANAGER.addDependencies(FAMILY_LOADER, LEAVES_PROPERTIES_LOADER, SOIL_PROPERTIES_LOADER);
+        MANAGER.addDependencies(SPECIES_LOADER, LEAVES_PROPERTIES_LOADER, SOIL_PROPERTIES_LOADER, FAMILY_LOADER,
+                GEN_FEATURE_TEMPLATE_LOADER, GROWTH_LOGIC_KIT_TEMPLATE_LOADER, FRUIT_LOADER, POD_LOADER);
+        MANAGER.addDependencies(JO_CODE_LOADER, SPECIES_LOADER);
+        MANAGER.addDependencies(FEATURE_CANCELLATION_LOADER, SPECIES_LOADER);
+        MANAGER.addDependencies(BIOME_POPULATORS_LOADER, SPECIES_LOADER, FEATURE_CANCELLATION_LOADER);
     }
 
     private static void registerModTreePacks() {
@@ -3,6 +3,7 @@ package com.ferreusveritas.dynamictrees.resources;
 import com.ferreusveritas.dynamictrees.api.resource.ResourceAccessor;
 import com.ferreusveritas.dynamictrees.api.resource.TreeResourceManager;
 import com.ferreusveritas.dynamictrees.api.resource.TreeResourcePack;
+import com.ferreusveritas.dynamictrees.api.resource.loading.AbstractResourceLoader;
 import com.ferreusveritas.dynamictrees.api.resource.loading.ApplierResourceLoader;
 import com.ferreusveritas.dynamictrees.api.resource.loading.ResourceLoader;
 import com.ferreusveritas.dynamictrees.util.CommonCollectors;
@@ -11,6 +12,8 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackResources;
 import net.minecraft.server.packs.resources.Resource;
 import net.minecraft.server.packs.resources.ResourceManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.FileNotFoundException;
 import java.util.*;
@@ -24,8 +27,11 @@ import java.util.stream.Stream;
  */
 public final class TreesResourceManager implements ResourceManager, TreeResourceManager {
 
+    private static final Logger LOGGER = LogManager.getLogger();
+
     private final List<TreeResourcePack> resourcePacks = Lists.newArrayList();
     private final List<ResourceLoader<?>> resourceLoaders = Lists.newArrayList();
+    private final Map<ResourceLoader<?>, Set<ResourceLoader<?>>> declaredDependencies = new HashMap<>();
 
     @Override
     public void addLoader(ResourceLoader<?> loader) {
@@ -47,6 +53,12 @@ public final class TreesResourceManager implements ResourceManager, TreeResource
         this.resourceLoaders.add(this.resourceLoaders.indexOf(existing) + 1, loader);
     }
 
+    @Override
+    public void addDependencies(ResourceLoader<?> loader, ResourceLoader<?>... dependencies) {
+        this.declaredDependencies.computeIfAbsent(loader, k -> new LinkedHashSet<>())
+                .addAll(Arrays.asList(dependencies));
+    }
+
     @Override
     public void registerAppliers() {
         this.resourceLoaders.stream()
@@ -57,17 +69,17 @@ public final class TreesResourceManager implements ResourceManager, TreeResource
 
     @Override
     public void load() {
-        this.resourceLoaders.forEach(loader -> loader.load(this).join());
+        this.prepareAndApply(Stage.LOAD);
     }
 
     @Override
     public void gatherData() {
-        this.resourceLoaders.forEach(loader -> loader.gatherData(this).join());
+        this.prepareAndApply(Stage.GATHER_DATA);
     }
 
     @Override
     public void setup() {
-        this.resourceLoaders.forEach(loader -> loader.setup(this).join());
+        this.prepareAndApply(Stage.SETUP);
     }
 
     @Override
@@ -85,14 +97,127 @@ public final class TreesResourceManager implements ResourceManager, TreeResource
      */
     @Override
     public void reload(final CompletableFuture<?>[] futures) {
+        this.apply(Stage.RELOAD, futures, new long[futures.length], System.nanoTime());
+    }
+
+    /**
+     * Starts preparation of every loader at once, so that independent loaders read and parse their files
+     * concurrently, and then applies them on the calling thread in dependency order.
+     */
+    private void prepareAndApply(final Stage stage) {
+        final long start = System.nanoTime();
+        final long[] preparedAt = new long[this.resourceLoaders.size()];
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[preparedAt.length];
+
         for (int i = 0; i < futures.length; i++) {
-            this.reload(this.resourceLoaders.get(i), futures[i]);
+            final int index = i;
+            final ResourceLoader<?> loader = this.resourceLoaders.get(i);
+            // Other loaders may override load, gatherData or setup, so are only run through those in turn.
+            futures[i] = loader instanceof AbstractResourceLoader ? loader.prepare(this)
+                    .whenComplete((accessor, throwable) -> preparedAt[index] = System.nanoTime()) :
+                    CompletableFuture.completedFuture(null);
         }
+        this.apply(stage, futures, preparedAt, start);
+    }
+
+    /**
+     * Applies each loader's prepared resources once all of its dependencies have been applied, picking whichever
+     * ready loader finished preparing first. Application (and therefore all registry mutation) is kept serialised on
+     * the calling thread.
+     */
+    private void apply(final Stage stage, final CompletableFuture<?>[] futures, final long[] preparedAt,
+                       final long start) {
+        final List<Set<Integer>> dependencies = this.resolveDependencies();
+        final boolean[] applied = new boolean[futures.length];
+        final List<CompletableFuture<?>> ready = new ArrayList<>(futures.length);
+
+        for (int remaining = futures.length; remaining > 0; remaining--) {
+            ready.clear();
+            for (int i = 0; i < futures.length; i++) {
+                if (!applied[i] && this.dependenciesApplied(dependencies.get(i), applied)) {
+                    ready.add(futures[i]);
+                }
+            }
+            if (ready.isEmpty()) {
+                throw new IllegalStateException("Cyclic dependencies between tree resource loaders.");
+            }
+            CompletableFuture.anyOf(ready.toArray(CompletableFuture<?>[]::new)).join();
+
+            for (int i = 0; i < futures.length; i++) {
+                if (!applied[i] && futures[i].isDone() && this.dependenciesApplied(dependencies.get(i), applied)) {
+                    this.apply(stage, this.resourceLoaders.get(i), futures[i], preparedAt[i], start);
+                    applied[i] = true;
+                    break;
+                }
+            }
+        }
+
+        LOGGER.debug("Applied {} tree resource loaders on {} in {} ms.", futures.length, stage,
+                millisSince(start));
     }
 
     @SuppressWarnings("unchecked")
-    private <R> void reload(final ResourceLoader<R> loader, final CompletableFuture<?> future) {
-        loader.reload((CompletableFuture<ResourceAccessor<R>>) future, this);
+    private <R> void apply(final Stage stage, final ResourceLoader<R> loader, final CompletableFuture<?> future,
+                           final long preparedAt, final long start) {
+        final long applyStart = System.nanoTime();
+        stage.apply(loader, (CompletableFuture<ResourceAccessor<R>>) future, this);
+
+        if (preparedAt == 0) {
+            LOGGER.debug("Applied tree resource loader \"{}\" on {} in {} ms.", loader.getClass().getSimpleName(),
+                    stage, millisSince(applyStart));
+        } else {
+            LOGGER.debug("Prepared tree resource loader \"{}\" on {} after {} ms and applied it in {} ms.",
+                    loader.getClass().getSimpleName(), stage, (preparedAt - start) / 1_000_000L,
+                    millisSince(applyStart));
+        }
+    }
+
+    private boolean dependenciesApplied(final Set<Integer> dependencies, final boolean[] applied) {
+        for (final int dependency : dependencies) {
+            if (!applied[dependency]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the dependencies of each loader as indices into {@link #resourceLoaders}. Loaders without declared
+     * dependencies act as barriers: they depend on every loader before them and every loader after them depends on
+     * them, which keeps the original sequential behaviour for add-on loaders that don't declare dependencies.
+     */
+    private List<Set<Integer>> resolveDependencies() {
+        final List<Set<Integer>> dependencies = new ArrayList<>(this.resourceLoaders.size());
+        int lastBarrier = -1;
+
+        for (int i = 0; i < this.resourceLoaders.size(); i++) {
+            final Set<Integer> loaderDependencies = new HashSet<>();
+            final Set<ResourceLoader<?>> declared = this.declaredDependencies.get(this.resourceLoaders.get(i));
+
+            if (declared == null) {
+                for (int j = 0; j < i; j++) {
+                    loaderDependencies.add(j);
+                }
+                lastBarrier = i;
+            } else {
+                for (final ResourceLoader<?> dependency : declared) {
+                    final int index = this.resourceLoaders.indexOf(dependency);
+                    // Dependencies that were never added to this manager are ignored.
+                    if (index >= 0 && index != i) {
+                        loaderDependencies.add(index);
+                    }
+                }
+                if (lastBarrier >= 0) {
+                    loaderDependencies.add(lastBarrier);
+                }
+            }
+            dependencies.add(loaderDependencies);
+        }
+        return dependencies;
+    }
+
+    private static long millisSince(final long start) {
+        return (System.nanoTime() - start) / 1_000_000L;
     }
 
     @Override
@@ -173,4 +298,57 @@ public final class TreesResourceManager implements ResourceManager, TreeResource
     public Stream<PackResources> listPacks() {
         return (Stream<PackResources>) (Stream<?>) this.resourcePacks.stream();
     }
+
+    private enum Stage {
+        LOAD {
+            @Override
+            <R> void apply(ResourceLoader<R> loader, CompletableFuture<ResourceAccessor<R>> future,
+                           ResourceManager resourceManager) {
+                if (loader instanceof AbstractResourceLoader) {
+                    loader.applyOnLoad(future.join(), resourceManager);
+                } else {
+                    loader.load(resourceManager).join();
+                }
+            }
+        },
+        GATHER_DATA {
+            @Override
+            <R> void apply(ResourceLoader<R> loader, CompletableFuture<ResourceAccessor<R>> future,
+                           ResourceManager resourceManager) {
+                if (loader instanceof AbstractResourceLoader) {
+                    loader.applyOnGatherData(future.join(), resourceManager);
+                } else {
+                    loader.gatherData(resourceManager).join();
+                }
+            }
+        },
+        SETUP {
+            @Override
+            <R> void apply(ResourceLoader<R> loader, CompletableFuture<ResourceAccessor<R>> future,
+                           ResourceManager resourceManager) {
+                if (loader instanceof AbstractResourceLoader) {
+                    loader.applyOnSetup(future.join(), resourceManager);
+                } else {
+                    loader.setup(resourceManager).join();
+                }
+            }
+        },
+        RELOAD {
+            @Override
+            <R> void apply(ResourceLoader<R> loader, CompletableFuture<ResourceAccessor<R>> future,
+                           ResourceManager resourceManager) {
+                // Through reload rather than applyOnReload, so that loaders overriding it are still called.
+                loader.reload(future, resourceManager);
+            }
+        };
+
+        /**
+         * Applies the given loader's prepared resources for this stage. The future has already completed. For stages
+         * other than reload it holds nothing unless the loader is an {@link AbstractResourceLoader}, so other loaders
+         * are run through their own method for the stage instead.
+         */
+        abstract <R> void apply(ResourceLoader<R> loader, CompletableFuture<ResourceAccessor<R>> future,
+                                ResourceManager resourceManager);
+    }
+
 }
\ No newline at end of file
@@ -36,6 +36,7 @@ public final class JoCodeResourceLoader extends AbstractResourceLoader<List<Stri
         resourceAccessor.getAllResources().forEach(resource ->
                 this.registerCodes(resource.getLocation(), resource.getResource())
         );
+        JoCodeRegistry.freeze();
     }
 
     private void registerCodes(ResourceLocation location, List<String> lines) {
@@ -44,6 +45,11 @@ public final class JoCodeResourceLoader extends AbstractResourceLoader<List<Stri
         LOGGER.debug("Successfully loaded JoCodes for species \"{}\".", location);
     }
 
+    /**
+     * Registers the code on the given line, in the format {@code [*]radius:code[:weight]}. A leading {@code *} marks
+     * a roots code and the optional weight makes the code more or less likely to be picked than others of the same
+     * radius.
+     */
     private void registerCodeForLine(Species species, String line) {
         final String[] radiusAndCode = line.split(":");
         boolean isRoot = false;
@@ -51,17 +57,18 @@ public final class JoCodeResourceLoader extends AbstractResourceLoader<List<Stri
             radiusAndCode[0] = radiusAndCode[0].substring(1);
             isRoot = true;
         }
-        this.registerCode(species, Integer.parseInt(radiusAndCode[0]), radiusAndCode[1], isRoot);
+        final float weight = radiusAndCode.length > 2 ? Float.parseFloat(radiusAndCode[2]) : JoCodeRegistry.DEFAULT_WEIGHT;
+        this.registerCode(species, Integer.parseInt(radiusAndCode[0]), radiusAndCode[1], isRoot, weight);
     }
 
-    private void registerCode(Species species, int radius, String code, boolean root) {
+    private void registerCode(Species species, int radius, String code, boolean root, float weight) {
         if (root){
             final RootsJoCode joCode = species.getRootsJoCode(code);
             joCode.setCareful(false);
-            JoCodeRegistry.registerRoot(species.getRegistryName(), radius, joCode);
+            JoCodeRegistry.registerRoot(species.getRegistryName(), radius, joCode, weight);
         } else {
             final JoCode joCode = species.getJoCode(code).setCareful(false);
-            JoCodeRegistry.register(species.getRegistryName(), radius, joCode);
+            JoCodeRegistry.register(species.getRegistryName(), radius, joCode, weight);
         }
     }
 
@@ -0,0 +1,93 @@
+package com.ferreusveritas.dynamictrees.systems;
+
+import com.ferreusveritas.dynamictrees.item.Seed;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the dropped seed items in each level in order of when they are due to try planting themselves, one second
+ * before they would despawn. Seeds are added when they join the level and the queue is swept once per level tick, so
+ * dropped seeds do no work of their own while they wait.
+ *
+ * <p>Entries are checked again when they come due, as an item entity's age only advances while it ticks and may be
+ * lowered when it merges with another. Those that have been picked up, merged away or unloaded are dropped; unloaded
+ * seeds are added again when their chunk loads.</p>
+ */
+public final class SeedPlantingQueue {
+
+    /** The number of ticks before despawning that a seed tries to plant itself. */
+    public static final int PLANT_BEFORE_DESPAWN = 20;
+
+    private static final Map<ResourceKey<Level>, PriorityQueue<Entry>> QUEUES = new HashMap<>();
+
+    private SeedPlantingQueue() {
+    }
+
+    /**
+     * Queues the given seed item entity to try planting itself before it despawns. Does nothing on the client.
+     */
+    public static void add(Level level, ItemEntity entity, Seed seed) {
+        if (level.isClientSide) {
+            return;
+        }
+        if (entity.lifespan == 6000) { // 6000 (5 minutes) is the default lifespan for an item entity
+            entity.lifespan = seed.getEntityLifespan(entity.getItem(), level);
+        }
+        QUEUES.computeIfAbsent(level.dimension(), k -> new PriorityQueue<>(Comparator.comparingLong(Entry::deadline)))
+                .add(new Entry(entity, getDeadline(level, entity)));
+    }
+
+    private static long getDeadline(Level level, ItemEntity entity) {
+        return level.getGameTime() + Math.max(0, entity.lifespan - PLANT_BEFORE_DESPAWN - entity.getAge());
+    }
+
+    /**
+     * Plants or discards every seed in the given level that is due to try planting itself.
+     */
+    public static void tick(Level level) {
+        final PriorityQueue<Entry> queue = QUEUES.get(level.dimension());
+        if (queue == null || queue.isEmpty()) {
+            return;
+        }
+
+        final long gameTime = level.getGameTime();
+        final List<ItemEntity> due = new ArrayList<>();
+        final List<Entry> requeue = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().deadline() <= gameTime) {
+            final ItemEntity entity = queue.poll().entity();
+            if (entity.isRemoved() || !(entity.getItem().getItem() instanceof Seed)) {
+                continue;
+            }
+            final long deadline = getDeadline(level, entity);
+            if (deadline > gameTime) {
+                requeue.add(new Entry(entity, deadline));
+            } else {
+                due.add(entity);
+            }
+        }
+        queue.addAll(requeue);
+
+        for (ItemEntity entity : due) {
+            if (entity.getItem().getItem() instanceof Seed seed) {
+                seed.plantVoluntarily(level, entity);
+            }
+            entity.kill();
+        }
+    }
+
+    public static void unloadLevel(Level level) {
+        QUEUES.remove(level.dimension());
+    }
+
+    private record Entry(ItemEntity entity, long deadline) {
+    }
+
+}
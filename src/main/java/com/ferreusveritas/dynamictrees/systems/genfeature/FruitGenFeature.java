@@ -11,6 +11,7 @@ import com.ferreusveritas.dynamictrees.systems.genfeature.context.PostGrowContex
 import com.ferreusveritas.dynamictrees.systems.nodemapper.FindEndsNode;
 import com.ferreusveritas.dynamictrees.tree.species.Species;
 import com.ferreusveritas.dynamictrees.util.CoordUtils;
+import com.ferreusveritas.dynamictrees.util.LeavesOccupancyMap;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
@@ -52,10 +53,13 @@ public class FruitGenFeature extends GenFeature {
         if (!context.endPoints().isEmpty()) {
             int qty = configuration.get(QUANTITY);
             qty *= context.fruitProductionFactor();
+            final BlockPos treePos = context.pos().above();
+            final LeavesOccupancyMap map = LeavesOccupancyMap.around(context.level(), context.species(), treePos,
+                    context.endPoints(), context.bounds());
             for (int i = 0; i < qty; i++) {
                 final BlockPos endPoint = context.endPoints().get(context.random().nextInt(context.endPoints().size()));
-                this.placeDuringWorldGen(configuration, context.species(), context.level(), context.pos().above(),
-                        endPoint, context.bounds(), context.seasonValue());
+                this.placeDuringWorldGen(configuration, context.species(), map, treePos, endPoint,
+                        context.seasonValue());
             }
             return true;
         }
@@ -79,9 +83,12 @@ public class FruitGenFeature extends GenFeature {
                 final List<BlockPos> endPoints = endFinder.getEnds();
                 int qty = configuration.get(QUANTITY);
                 if (!endPoints.isEmpty()) {
+                    final BlockPos treePos = rootPos.above();
+                    final LeavesOccupancyMap map = LeavesOccupancyMap.around(level, context.species(), treePos,
+                            endPoints, SafeChunkBounds.ANY);
                     for (int i = 0; i < qty; i++) {
                         final BlockPos endPoint = endPoints.get(level.getRandom().nextInt(endPoints.size()));
-                        this.place(configuration, context.species(), level, rootPos.above(), endPoint,
+                        this.place(configuration, context.species(), map, treePos, endPoint,
                                 SeasonHelper.getSeasonValue(context.levelContext(), rootPos));
                     }
                 }
@@ -100,6 +107,19 @@ public class FruitGenFeature extends GenFeature {
         }
     }
 
+    /**
+     * Places fruit using the given occupancy map, which is shared by all fruit placed on the tree this update.
+     */
+    protected void place(GenFeatureConfiguration configuration, Species species, LeavesOccupancyMap map,
+                         BlockPos treePos, BlockPos branchPos, Float seasonValue) {
+        final LevelAccessor level = map.getLevel();
+        final BlockPos fruitPos = CoordUtils.getRayTraceFruitPos(map, species, treePos, branchPos);
+        if (shouldPlace(configuration, level, fruitPos)) {
+            configuration.get(FRUIT).place(level, fruitPos, seasonValue);
+            map.invalidate(fruitPos);
+        }
+    }
+
     protected boolean shouldPlace(GenFeatureConfiguration configuration, LevelAccessor level, BlockPos pos) {
         return pos != BlockPos.ZERO &&
                 (CoordUtils.coordHashCode(pos, 0) & 3) == 0 &&
@@ -115,6 +135,19 @@ public class FruitGenFeature extends GenFeature {
         }
     }
 
+    /**
+     * Places fruit during world gen using the given occupancy map, which is shared by all fruit placed on the tree.
+     */
+    protected void placeDuringWorldGen(GenFeatureConfiguration configuration, Species species, LeavesOccupancyMap map,
+                                       BlockPos treePos, BlockPos branchPos, Float seasonValue) {
+        final LevelAccessor level = map.getLevel();
+        final BlockPos fruitPos = CoordUtils.getRayTraceFruitPos(map, species, treePos, branchPos);
+        if (shouldPlaceDuringWorldGen(configuration, level, fruitPos)) {
+            configuration.get(FRUIT).placeDuringWorldGen(level, fruitPos, seasonValue);
+            map.invalidate(fruitPos);
+        }
+    }
+
     protected boolean shouldPlaceDuringWorldGen(GenFeatureConfiguration configuration, LevelAccessor level, BlockPos pos) {
         return pos != BlockPos.ZERO && level.getRandom().nextFloat() <= configuration.get(PLACE_CHANCE);
     }
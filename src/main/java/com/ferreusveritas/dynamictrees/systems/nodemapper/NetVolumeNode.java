@@ -8,15 +8,14 @@ import net.minecraft.core.Direction;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 public class NetVolumeNode implements NodeInspector {
 
     public static final class Volume {
         public static final int VOXELSPERLOG = 4096; //A log contains 4096 voxels of wood material(16x16x16 pixels)
 
-        private final Map<Integer, Integer> branchVolumes; //VOLUME IN VOXELS
+        private int[] branchVolumes; //VOLUME IN VOXELS, indexed by the family's branch block index
         int maxBranch;
 
         public Volume() {
@@ -24,19 +23,21 @@ public class NetVolumeNode implements NodeInspector {
         }
 
         public Volume(int volume) {
-            branchVolumes = new HashMap<>();
-            branchVolumes.put(0, volume);
+            branchVolumes = new int[]{volume};
             maxBranch = 0;
         }
 
         public Volume(int... volumes) {
-            branchVolumes = new HashMap<>();
-            for (int i = 0; i < volumes.length; i++) {
-                if (volumes[i] != 0) {
-                    branchVolumes.put(i, volumes[i]);
-                }
-            }
-            maxBranch = volumes.length;
+            branchVolumes = volumes.length == 0 ? new int[1] : volumes.clone();
+            maxBranch = Math.max(volumes.length - 1, 0);
+        }
+
+        /**
+         * Creates an empty volume with room for the given number of branch types, such as the number of valid branch
+         * blocks of a family, so that adding to it never needs to grow it.
+         */
+        public static Volume withBranchTypes(int branchTypes) {
+            return new Volume(new int[Math.max(branchTypes, 1)]);
         }
 
         public void addVolume(int volume) {
@@ -44,36 +45,41 @@ public class NetVolumeNode implements NodeInspector {
         }
 
         public void addVolume(int volume, int branch) {
-            if (branchVolumes.containsKey(branch)) {
-                branchVolumes.computeIfPresent(branch, (b, v) -> v + volume);
-            } else {
-                branchVolumes.put(branch, volume);
+            if (branch >= branchVolumes.length) {
+                branchVolumes = Arrays.copyOf(branchVolumes, branch + 1);
             }
+            branchVolumes[branch] += volume;
             if (branch > maxBranch) {
                 maxBranch = branch;
             }
         }
 
         public void addVolume (Volume other){
-            for (Map.Entry<Integer, Integer> vols : other.branchVolumes.entrySet()){
-                addVolume(vols.getValue(), vols.getKey());
+            for (int i = 0; i <= other.maxBranch; i++) {
+                if (other.branchVolumes[i] != 0) {
+                    addVolume(other.branchVolumes[i], i);
+                }
             }
         }
 
         public void multiplyVolume(double multiplier) {
-            branchVolumes.replaceAll((a, b) -> (int) (b * multiplier));
+            for (int i = 0; i <= maxBranch; i++) {
+                branchVolumes[i] = (int) (branchVolumes[i] * multiplier);
+            }
         }
 
+        /**
+         * @return a copy of the volumes of each branch type, up to the highest one added to
+         */
         public int[] getRawVolumesArray() {
-            int[] volumes = new int[maxBranch + 1];
-            for (int i = 0; i <= maxBranch; i++) {
-                int vol = 0;
-                if (branchVolumes.containsKey(i)) {
-                    vol = branchVolumes.get(i);
-                }
-                volumes[i] = vol;
-            }
-            return volumes;
+            return Arrays.copyOf(branchVolumes, maxBranch + 1);
+        }
+
+        /**
+         * @return the number of branch types this volume holds, one more than the highest one added to
+         */
+        public int getNumBranchTypes() {
+            return maxBranch + 1;
         }
 
         public float getVolume() {
@@ -86,22 +92,30 @@ public class NetVolumeNode implements NodeInspector {
 
         public int getRawVolume() {
             int totalVolume = 0;
-            for (int i = 0; i < branchVolumes.size(); i++) {
-                totalVolume += getRawVolume(i);
+            for (int i = 0; i <= maxBranch; i++) {
+                totalVolume += branchVolumes[i];
             }
             return totalVolume;
         }
 
         public int getRawVolume(int branch) {
-            if (branchVolumes.containsKey(branch)) {
-                return branchVolumes.get(branch);
-            }
-            return 0;
+            return branch >= 0 && branch <= maxBranch ? branchVolumes[branch] : 0;
         }
 
     }
 
-    private final Volume volume = new Volume();//number of voxels(1x1x1 pixels) of wood accumulated from network analysis
+    private final Volume volume;//number of voxels(1x1x1 pixels) of wood accumulated from network analysis
+
+    public NetVolumeNode() {
+        this(1);
+    }
+
+    /**
+     * @param branchTypes the number of branch types expected, such as the family's number of valid branch blocks
+     */
+    public NetVolumeNode(int branchTypes) {
+        this.volume = Volume.withBranchTypes(branchTypes);
+    }
 
     @Override
     public boolean run(BlockState state, LevelAccessor level, BlockPos pos, Direction fromDir) {
@@ -3,41 +3,65 @@ package com.ferreusveritas.dynamictrees.systems.nodemapper;
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
 import com.ferreusveritas.dynamictrees.api.network.NodeInspector;
 import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
+import com.ferreusveritas.dynamictrees.tree.family.Family;
 import com.ferreusveritas.dynamictrees.util.BranchConnectionData;
+import com.ferreusveritas.dynamictrees.util.BranchDestructionData;
 import com.ferreusveritas.dynamictrees.util.Connections;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.state.BlockState;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Makes a BlockPos -> BlockState map for all of the branches
+ * Encodes the radius, connections and block of all of the branches, relative to the origin, in the packed form used by
+ * {@link BranchDestructionData}. The origin branch is always encoded first.
  *
  * @author ferreusveritas
  */
 public class StateNode implements NodeInspector {
 
-    private final Map<BlockPos, BranchConnectionData> map = new HashMap<>();
     private final BlockPos origin;
+    private int[] radiusPositions = new int[64];
+    private int[] connections = new int[64];
+    private int[] blockIndices = new int[64];
+    private int size = 0;
+    private Family family = Family.NULL_FAMILY;
+
+    /** Which of the positions directly above the origin are branches, indexed by relative y plus 64. */
+    private final boolean[] column = new boolean[129];
+    private int lowestY = 0;
 
     public StateNode(BlockPos origin) {
         this.origin = origin;
     }
 
-    public Map<BlockPos, BranchConnectionData> getBranchConnectionMap() {
-        return map;
-    }
-
     @Override
     public boolean run(BlockState state, LevelAccessor level, BlockPos pos, Direction fromDir) {
         BranchBlock branch = TreeHelper.getBranch(state);
 
         if (branch != null) {
-            Connections connData = branch.getConnectionData(level, pos, state);
-            map.put(pos.subtract(origin), new BranchConnectionData(state, connData));
+            final int relX = pos.getX() - origin.getX();
+            final int relY = pos.getY() - origin.getY();
+            final int relZ = pos.getZ() - origin.getZ();
+            lowestY = Math.min(lowestY, relY);
+
+            if (BranchDestructionData.inBounds(relX, relY, relZ)) { // Place comfortable limits on the system
+                if (relX == 0 && relZ == 0) {
+                    column[relY + 64] = true;
+                }
+                if (size == 0) {
+                    family = branch.getFamily();
+                }
+                Connections connData = branch.getConnectionData(level, pos, state);
+                add(BranchDestructionData.encodeBranchesRadiusPos(relX, relY, relZ, branch, state),
+                        BranchDestructionData.encodeBranchesConnections(connData),
+                        BranchDestructionData.encodeBranchBlocks(branch),
+                        relX == 0 && relY == 0 && relZ == 0);
+            }
         }
 
         return true;
@@ -48,4 +72,82 @@ public class StateNode implements NodeInspector {
         return false;
     }
 
+    private void add(int radiusPosition, int connection, int blockIndex, boolean isOrigin) {
+        if (size == radiusPositions.length) {
+            radiusPositions = Arrays.copyOf(radiusPositions, size * 2);
+            connections = Arrays.copyOf(connections, size * 2);
+            blockIndices = Arrays.copyOf(blockIndices, size * 2);
+        }
+        int index = size++;
+        if (isOrigin && index > 0) { // Keep the origin at the first index.
+            radiusPositions[index] = radiusPositions[0];
+            connections[index] = connections[0];
+            blockIndices[index] = blockIndices[0];
+            index = 0;
+        }
+        radiusPositions[index] = radiusPosition;
+        connections[index] = connection;
+        blockIndices[index] = blockIndex;
+    }
+
+    /**
+     * Decodes the branches back into a map of position relative to the origin to state and connections, as this node
+     * used to build. Each state is the one for its radius from the tree's family, and branches out of the bounds of
+     * {@link BranchDestructionData} are not included.
+     *
+     * @deprecated use the packed arrays from {@link #getRadiusPositions()}, {@link #getConnections()} and
+     * {@link #getBlockIndices()} instead
+     */
+    @Deprecated
+    public Map<BlockPos, BranchConnectionData> getBranchConnectionMap() {
+        final Map<BlockPos, BranchConnectionData> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            final BranchBlock branch = family.getValidBranchBlock(blockIndices[i]);
+            if (branch == null) {
+                continue;
+            }
+            final int[] radii = new int[6];
+            for (Direction face : Direction.values()) {
+                radii[face.get3DDataValue()] = connections[i] >> (face.get3DDataValue() * 5) & 0x1F;
+            }
+            map.put(BranchDestructionData.decodeRelPos(radiusPositions[i]),
+                    new BranchConnectionData(branch.getStateForRadius(radiusPositions[i] >> 24 & 0x1F), new Connections(radii)));
+        }
+        return map;
+    }
+
+    public int getNumBranches() {
+        return size;
+    }
+
+    public int[] getRadiusPositions() {
+        return Arrays.copyOf(radiusPositions, size);
+    }
+
+    public int[] getConnections() {
+        return Arrays.copyOf(connections, size);
+    }
+
+    public int[] getBlockIndices() {
+        return Arrays.copyOf(blockIndices, size);
+    }
+
+    /**
+     * @return the number of branches in an unbroken column from the origin upwards, including the origin
+     */
+    public int getTrunkHeight() {
+        int trunkHeight = 1;
+        for (int y = 1; y <= 64 && column[y + 64]; y++) {
+            trunkHeight++;
+        }
+        return trunkHeight;
+    }
+
+    /**
+     * @return the lowest y of any branch relative to the origin, or {@code 0} if none are lower than it
+     */
+    public int getLowestY() {
+        return lowestY;
+    }
+
 }
@@ -11,6 +11,7 @@ import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -65,6 +66,19 @@ public class LevelPoissonDiscProvider implements PoissonDiscProvider {
         }
     }
 
+    @Nullable
+    @Override
+    public PoissonDisc getPoissonDiscAt(int x, int z) {
+        final int chunkX = x >> 4;
+        final int chunkZ = z >> 4;
+        synchronized (this) {
+            if (!getChunkDiscSet(chunkX, chunkZ).generated) {
+                this.getPoissonDiscs(chunkX, 0, chunkZ);
+            }
+            return getChunkDiscSet(chunkX, chunkZ).getDiscAt(x, z, chunkX, chunkZ);
+        }
+    }
+
     // A set of caches so we needn't create the lists from scratch for every chunk.
     private final List<PoissonDisc> discCache1 = new ArrayList<>(64); // 64 is above the typical range to expect for 9 chunks.
     private final List<PoissonDisc> discCache2 = new ArrayList<>(64);
@@ -1,5 +1,6 @@
 package com.ferreusveritas.dynamictrees.systems.poissondisc;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
 
@@ -73,6 +74,31 @@ public class PoissonDiscChunkSet {
         return discs;
     }
 
+    /**
+     * Gets the disc centred on the given block, if there is one, by decoding only the tile that block is in.
+     *
+     * @param x the x coordinate of the block, which must be in this chunk
+     * @param z the z coordinate of the block, which must be in this chunk
+     * @return the disc centred on the block, or {@code null} if there isn't one
+     */
+    @Nullable
+    public PoissonDisc getDiscAt(int x, int z, int chunkX, int chunkZ) {
+        final int tile = z & 12 | ((x & 12) >> 2);
+        final byte cd = discData[tile];
+        final int subPos = ((x & 3) << 2) | (z & 3);
+        if ((cd & 0x80) != 0) {//Extended Bit
+            int flip = (cd | (cd << 1)) & 3;//0 or 3
+            for (int diskData : new int[]{0x10 ^ flip, 0x1f ^ flip}) {
+                if ((diskData & 15) == subPos) {
+                    return unpackDiscData(tile, diskData, chunkX, chunkZ);
+                }
+            }
+        } else if ((cd & 0x70) != 0 && (cd & 15) == subPos) {//has a radius
+            return unpackDiscData(tile, cd, chunkX, chunkZ);
+        }
+        return null;
+    }
+
     public void clearDiscs() {
         Arrays.fill(discData, (byte) 0);
     }
@@ -4,11 +4,13 @@ import com.ferreusveritas.dynamictrees.api.worldgen.PoissonDiscProvider;
 import com.ferreusveritas.dynamictrees.event.PoissonDiscProviderCreateEvent;
 import com.ferreusveritas.dynamictrees.util.LevelContext;
 import com.ferreusveritas.dynamictrees.worldgen.BiomeRadiusCoordinator;
+import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraftforge.common.MinecraftForge;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,6 +36,11 @@ public class UniversalPoissonDiscProvider {
         return provider.getPoissonDiscs(chunkPos.x, 0, chunkPos.z);
     }
 
+    @Nullable
+    public PoissonDisc getPoissonDiscAt(LevelContext levelContext, BlockPos pos) {
+        return getProvider(levelContext).getPoissonDiscAt(pos.getX(), pos.getZ());
+    }
+
     public void unloadWorld(ServerLevel level) {
         this.providerMap.remove(level.dimension().location());
     }
@@ -1,7 +1,6 @@
 package com.ferreusveritas.dynamictrees.systems.substance;
 
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
-import com.ferreusveritas.dynamictrees.api.network.MapSignal;
 import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.systems.nodemapper.DenuderNode;
@@ -42,7 +41,7 @@ public class DenudeSubstance implements SubstanceEffect {
         if (level.isClientSide) {
             TreeHelper.treeParticles(level, rootPos, ParticleTypes.ASH, 8);
         } else {
-            dirt.startAnalysis(level, rootPos, new MapSignal(new DenuderNode(species, family)));
+            SubstanceTraversals.queue(level, rootPos, new DenuderNode(species, family));
         }
 
         return true;
@@ -1,7 +1,6 @@
 package com.ferreusveritas.dynamictrees.systems.substance;
 
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
-import com.ferreusveritas.dynamictrees.api.network.MapSignal;
 import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.systems.nodemapper.FreezerNode;
@@ -23,7 +22,7 @@ public class FreezeSubstance implements SubstanceEffect {
             if (level.isClientSide) {
                 TreeHelper.treeParticles(level, rootPos, ParticleTypes.FIREWORK, 8);
             } else {
-                dirt.startAnalysis(level, rootPos, new MapSignal(new FreezerNode(species)));
+                SubstanceTraversals.queue(level, rootPos, new FreezerNode(species));
                 dirt.fertilize(level, rootPos, -15); // Destroy the fertility so it can no longer grow.
             }
             return true;
@@ -2,7 +2,6 @@ package com.ferreusveritas.dynamictrees.systems.substance;
 
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
 import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
-import com.ferreusveritas.dynamictrees.entity.LingeringEffectorEntity;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
@@ -32,7 +31,7 @@ public class GrowthSubstance implements SubstanceEffect {
     @Override
     public boolean apply(Level level, BlockPos rootPos) {
         // Don't apply if there is already a growth substance.
-        if (LingeringEffectorEntity.treeHasEffectorForEffect(level, rootPos, this)) {
+        if (LingeringEffectScheduler.hasEffect(level, rootPos, this)) {
             return false;
         }
 		if (fillFertility) {
@@ -6,7 +6,6 @@ import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
 import com.ferreusveritas.dynamictrees.block.FruitBlock;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.init.DTClient;
-import com.ferreusveritas.dynamictrees.systems.fruit.Fruit;
 import com.ferreusveritas.dynamictrees.systems.genfeature.FruitGenFeature;
 import com.ferreusveritas.dynamictrees.systems.genfeature.GenFeature;
 import com.ferreusveritas.dynamictrees.systems.genfeature.context.PostGrowContext;
@@ -20,6 +19,10 @@ import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -36,6 +39,16 @@ public class HarvestSubstance implements SubstanceEffect {
 
     public final Set<BlockPos> fruitPositions = Sets.newHashSet();
 
+    /** How often the whole tree is scanned for fruit again, in case it has grown new ends. */
+    private static final int TICKS_PER_SCAN = 200;
+    /** How far from each end of the tree fruit is looked for. */
+    private static final int FRUIT_REACH = 3;
+
+    /** The blocks of the species' fruits, compared by identity. */
+    private final Set<Block> fruitBlocks = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The ends of the tree as of the last scan, around which fruit is tracked. */
+    private final List<BlockPos> ends = new ArrayList<>();
+
     public HarvestSubstance() {
         this(1600, 12, 12, 1, 16);
     }
@@ -64,37 +77,62 @@ public class HarvestSubstance implements SubstanceEffect {
             return false;
         }
 
+        this.fruitBlocks.clear();
+        this.species.getFruits().forEach(fruit -> this.fruitBlocks.add(fruit.getBlock()));
         this.recalculateFruitPositions(level, rootPos, rootyBlock);
 
         return true;
     }
 
+    /**
+     * Scans around every end of the tree for fruit. Between scans the fruit positions are kept up to date by
+     * {@link #onFruitPlaced(BlockPos, Block)} and {@link #onFruitRemoved(BlockPos)}.
+     */
     private void recalculateFruitPositions(final LevelAccessor level, final BlockPos rootPos, final RootyBlock rootyBlock) {
         this.fruitPositions.clear();
 
         final FindEndsNode findEndsNode = new FindEndsNode();
         rootyBlock.startAnalysis(level, rootPos, new MapSignal(findEndsNode));
-
-        findEndsNode.getEnds().forEach(endPos ->
-                BlockPos.betweenClosedStream(
-                        endPos.offset(-3, -3, -3),
-                        endPos.offset(3, 3, 3)
-                ).forEach(pos -> {
-                    if (isCompatibleFruitBlock(level, pos)) {
-                        this.fruitPositions.add(pos.immutable());
+        this.ends.clear();
+        this.ends.addAll(findEndsNode.getEnds());
+
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (BlockPos endPos : this.ends) {
+            for (int y = -FRUIT_REACH; y <= FRUIT_REACH; y++) {
+                for (int z = -FRUIT_REACH; z <= FRUIT_REACH; z++) {
+                    for (int x = -FRUIT_REACH; x <= FRUIT_REACH; x++) {
+                        pos.setWithOffset(endPos, x, y, z);
+                        if (isCompatibleFruitBlock(level.getBlockState(pos).getBlock())) {
+                            this.fruitPositions.add(pos.immutable());
+                        }
                     }
-                })
-        );
+                }
+            }
+        }
     }
 
-    private boolean isCompatibleFruitBlock(LevelAccessor level, BlockPos pos) {
-        final Block block = level.getBlockState(pos).getBlock();
-        return isCompatibleFruitBlock(block);
+    private boolean isCompatibleFruitBlock(Block block) {
+        return block instanceof FruitBlock && this.fruitBlocks.contains(block);
     }
 
-    private boolean isCompatibleFruitBlock(Block block) {
-        return block instanceof FruitBlock &&
-                this.species.getFruits().stream().map(Fruit::getBlock).anyMatch(block::equals);
+    /**
+     * Called when a fruit block is placed, tracking it if it is one of this tree's fruits and near one of its ends.
+     */
+    public void onFruitPlaced(BlockPos pos, Block block) {
+        if (!isCompatibleFruitBlock(block)) {
+            return;
+        }
+        for (BlockPos endPos : this.ends) {
+            if (Math.abs(pos.getX() - endPos.getX()) <= FRUIT_REACH && Math.abs(pos.getY() - endPos.getY()) <= FRUIT_REACH
+                    && Math.abs(pos.getZ() - endPos.getZ()) <= FRUIT_REACH) {
+                this.fruitPositions.add(pos.immutable());
+                return;
+            }
+        }
+    }
+
+    public void onFruitRemoved(BlockPos pos) {
+        this.fruitPositions.remove(pos);
     }
 
     @Override
@@ -109,10 +147,15 @@ public class HarvestSubstance implements SubstanceEffect {
             return false;
         }
 
+        // Fruit placed and removed is tracked as it happens, but the tree may have grown new ends to look around.
+        if (deltaTicks % TICKS_PER_SCAN == 0) {
+            this.recalculateFruitPositions(level, rootPos, rootyBlock);
+        }
+
         if (level.isClientSide) {
             if (deltaTicks % this.ticksPerParticlePulse == 0) {
-                // Recalculate fruit positions every time in case new fruit spawned.
-                this.recalculateFruitPositions(level, rootPos, rootyBlock);
+                // The fruit hooks only run on the server, so fruit gone on the client is dropped here instead.
+                this.fruitPositions.removeIf(fruitPos -> !isCompatibleFruitBlock(level.getBlockState(fruitPos).getBlock()));
 
                 this.fruitPositions.forEach(fruitPos ->
                         DTClient.spawnParticles(level, ParticleTypes.EFFECT, fruitPos.getX(), fruitPos.getY(),
@@ -123,26 +166,23 @@ public class HarvestSubstance implements SubstanceEffect {
             final boolean growPulse = deltaTicks % this.ticksPerGrowthPulse == 0;
             final boolean spawnAttempt = deltaTicks % this.ticksPerSpawnAttempt == 0;
 
-            // Only recalculate fruit positions if necessary, and don't do it twice.
-            if (growPulse || spawnAttempt) {
-                this.recalculateFruitPositions(level, rootPos, rootyBlock);
-            }
-
             if (growPulse) {
-                this.fruitPositions.removeIf(fruitPos -> {
+                // Pulse over a copy, as ticking a fruit can destroy it, which removes it from the positions through
+                // onFruitRemoved.
+                for (BlockPos fruitPos : new ArrayList<>(this.fruitPositions)) {
                     final BlockState state = level.getBlockState(fruitPos);
                     final Block block = state.getBlock();
 
                     if (!isCompatibleFruitBlock(block)) {
-                        return true;
+                        this.fruitPositions.remove(fruitPos);
+                        continue;
                     }
 
                     // Force tick for each fruit block - effectively multiplies growth speed.
                     for (int i = 0; i < this.growthPulses; i++) {
                         ((FruitBlock) block).doTick(state, level, fruitPos, level.random);
                     }
-                    return false;
-                });
+                }
             }
 
             // Force a growth attempt of all fruit gen features.
@@ -0,0 +1,197 @@
+package com.ferreusveritas.dynamictrees.systems.substance;
+
+import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
+import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundBlockEventPacket;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps the lingering {@link SubstanceEffect}s active on each tree, keyed by root position, and updates them once per
+ * level tick. This replaces giving every effect its own effector entity, so a farm full of treated trees adds nothing
+ * to the entity pipeline.
+ *
+ * <p>Effects are added on the server, which tells nearby clients through a block event on the rooty block (see
+ * {@link RootyBlock#triggerEvent}) carrying the index of the effect from {@link LingeringSubstances}. Players who start
+ * watching the tree's chunk later, such as by coming into range or logging in, are sent the same event for each effect
+ * still active (see {@link #sendEffects}). Clients then run their own copy of the effect for its particles, counting
+ * its ticks from when they were told of it. As with effector entities, effects are not saved; they end when their
+ * tree's chunk unloads or its rooty block is removed.</p>
+ */
+public final class LingeringEffectScheduler {
+
+    /** The ID of the block event sent to clients when an effect starts. */
+    public static final int START_EVENT_ID = 64;
+
+    private static final Map<ResourceKey<Level>, Map<Long, List<ActiveEffect>>> SERVER = new HashMap<>();
+    private static final Map<ResourceKey<Level>, Map<Long, List<ActiveEffect>>> CLIENT = new HashMap<>();
+
+    private LingeringEffectScheduler() {
+    }
+
+    /**
+     * Starts the given effect on the tree at the given root position, replacing any effect of the same name already on
+     * it, and notifies nearby clients. Does nothing on the client, which is notified by the server instead.
+     */
+    public static void add(Level level, BlockPos rootPos, SubstanceEffect effect) {
+        if (level.isClientSide) {
+            return;
+        }
+        start(level, rootPos, effect);
+
+        final int index = LingeringSubstances.indexOf(effect.getClass());
+        if (index >= 0) {
+            final BlockState state = level.getBlockState(rootPos);
+            level.blockEvent(rootPos, state.getBlock(), START_EVENT_ID, index);
+        }
+    }
+
+    /**
+     * Tells the given player of the effects active on trees in the given chunk, which the player has just started
+     * watching. The block event sent when each effect started only reached the players watching at the time.
+     */
+    public static void sendEffects(ServerPlayer player, ServerLevel level, ChunkPos chunkPos) {
+        final Map<Long, List<ActiveEffect>> levelEffects = SERVER.get(level.dimension());
+        if (levelEffects == null || levelEffects.isEmpty()) {
+            return;
+        }
+        levelEffects.forEach((pos, effects) -> {
+            if (SectionPos.blockToSectionCoord(BlockPos.getX(pos)) != chunkPos.x ||
+                    SectionPos.blockToSectionCoord(BlockPos.getZ(pos)) != chunkPos.z) {
+                return;
+            }
+            final BlockPos rootPos = BlockPos.of(pos);
+            final BlockState state = level.getBlockState(rootPos);
+            for (ActiveEffect active : effects) {
+                final int index = LingeringSubstances.indexOf(active.effect.getClass());
+                if (index >= 0) {
+                    player.connection.send(new ClientboundBlockEventPacket(rootPos, state.getBlock(), START_EVENT_ID, index));
+                }
+            }
+        });
+    }
+
+    /**
+     * Starts the effect with the given index from {@link LingeringSubstances} on the client, as notified by the server.
+     */
+    public static void startOnClient(Level level, BlockPos rootPos, int index) {
+        if (!level.isClientSide || index < 0 || index >= LingeringSubstances.LINGERING_SUBSTANCES.size()) {
+            return;
+        }
+        final SubstanceEffect effect = LingeringSubstances.<SubstanceEffect>fromIndex(index).get();
+        effect.apply(level, rootPos);
+        start(level, rootPos, effect);
+    }
+
+    private static void start(Level level, BlockPos rootPos, SubstanceEffect effect) {
+        final List<ActiveEffect> effects = getEffects(level).computeIfAbsent(rootPos.asLong(), k -> new ArrayList<>(1));
+        effects.removeIf(active -> active.effect.getName().equals(effect.getName()));
+        effects.add(new ActiveEffect(effect));
+    }
+
+    /**
+     * @return true if an effect with the same name as the given effect is active on the tree at the given root position
+     */
+    public static boolean hasEffect(LevelAccessor level, BlockPos rootPos, SubstanceEffect effect) {
+        if (!(level instanceof Level)) {
+            return false; // Effects aren't started during world gen.
+        }
+        final Map<Long, List<ActiveEffect>> levelEffects = (level.isClientSide() ? CLIENT : SERVER).get(((Level) level).dimension());
+        final List<ActiveEffect> effects = levelEffects == null ? null : levelEffects.get(rootPos.asLong());
+        if (effects != null) {
+            for (ActiveEffect active : effects) {
+                if (active.effect.getName().equals(effect.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Passes every active effect of the given type in the given level to the given action, along with the root position
+     * of its tree. The action must not start or end effects.
+     */
+    public static <E extends SubstanceEffect> void forEachEffect(Level level, Class<E> type, BiConsumer<BlockPos, E> action) {
+        final Map<Long, List<ActiveEffect>> levelEffects = (level.isClientSide ? CLIENT : SERVER).get(level.dimension());
+        if (levelEffects == null || levelEffects.isEmpty()) {
+            return;
+        }
+        final BlockPos.MutableBlockPos rootPos = new BlockPos.MutableBlockPos();
+        levelEffects.forEach((pos, effects) -> {
+            for (ActiveEffect active : effects) {
+                if (type.isInstance(active.effect)) {
+                    action.accept(rootPos.set(pos), type.cast(active.effect));
+                }
+            }
+        });
+    }
+
+    /**
+     * Updates every effect active in the given level, ending those whose tree is gone or unloaded or which report
+     * they are finished.
+     */
+    public static void tick(Level level) {
+        final Map<Long, List<ActiveEffect>> levelEffects = (level.isClientSide ? CLIENT : SERVER).get(level.dimension());
+        if (levelEffects == null || levelEffects.isEmpty()) {
+            return;
+        }
+
+        final BlockPos.MutableBlockPos rootPos = new BlockPos.MutableBlockPos();
+        final Iterator<Map.Entry<Long, List<ActiveEffect>>> iterator = levelEffects.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Long, List<ActiveEffect>> entry = iterator.next();
+            rootPos.set(entry.getKey());
+            if (!level.isLoaded(rootPos)) {
+                iterator.remove();
+                continue;
+            }
+
+            final BlockState state = level.getBlockState(rootPos);
+            if (state.getBlock() instanceof RootyBlock) {
+                final int fertility = state.getValue(RootyBlock.FERTILITY);
+                // Effects are given an immutable position, as they may keep hold of it.
+                final BlockPos pos = rootPos.immutable();
+                entry.getValue().removeIf(active -> !active.effect.update(level, pos, ++active.ticks, fertility));
+            } else {
+                entry.getValue().clear();
+            }
+            if (entry.getValue().isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    public static void unloadLevel(Level level) {
+        (level.isClientSide ? CLIENT : SERVER).remove(level.dimension());
+    }
+
+    private static Map<Long, List<ActiveEffect>> getEffects(Level level) {
+        return (level.isClientSide ? CLIENT : SERVER).computeIfAbsent(level.dimension(), k -> new HashMap<>());
+    }
+
+    private static final class ActiveEffect {
+        private final SubstanceEffect effect;
+        /** The number of ticks the effect has been active for. */
+        private int ticks;
+
+        private ActiveEffect(SubstanceEffect effect) {
+            this.effect = effect;
+        }
+    }
+
+}
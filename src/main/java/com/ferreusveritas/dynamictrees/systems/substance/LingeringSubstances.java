@@ -8,8 +8,8 @@ import java.util.function.Supplier;
 
 /**
  * Holds lingering {@link SubstanceEffect} classes and a {@link Supplier} to instantiate them with. Stored in a {@link
- * LinkedHashMap} so that {@link com.ferreusveritas.dynamictrees.entity.LingeringEffectorEntity} can send the relevant
- * substance as an index in a packet.
+ * LinkedHashMap} so that {@link LingeringEffectScheduler} can send the relevant substance to clients as an
+ * index in a block event.
  *
  * @author Harley O'Connor
  */
@@ -0,0 +1,124 @@
+package com.ferreusveritas.dynamictrees.systems.substance;
+
+import com.ferreusveritas.dynamictrees.api.TreeHelper;
+import com.ferreusveritas.dynamictrees.api.network.MapSignal;
+import com.ferreusveritas.dynamictrees.api.network.NodeInspector;
+import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.Level;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the {@link NodeInspector}s that substances want run over a tree and runs all of those for the same tree in a
+ * single traversal at the end of the level tick, rather than each substance mapping the whole tree itself. Dispensers
+ * applying several substances across an orchard in one tick then traverse each tree once.
+ *
+ * <p>Only one inspector of each class is kept per tree, a later one replacing the earlier. Inspectors that change the
+ * tree, such as transforming it, are queued with {@link #queueSeparately} instead. Those are run in traversals of their
+ * own after the shared one, so that what the other inspectors see doesn't depend on the order they were queued in.
+ * Substances whose effect depends on the tree as it will be after the traversal should check {@link #isQueued} and
+ * refuse to apply until it has run. On the client inspectors are run straight away, as there is no level tick to wait
+ * for.</p>
+ */
+public final class SubstanceTraversals {
+
+    private static final Map<ResourceKey<Level>, Map<Long, Pending>> PENDING = new HashMap<>();
+
+    private SubstanceTraversals() {
+    }
+
+    /**
+     * Queues the given inspector to be run over the tree with the given root position in this tick's traversal of it.
+     */
+    public static void queue(Level level, BlockPos rootPos, NodeInspector inspector) {
+        queue(level, rootPos, inspector, false);
+    }
+
+    /**
+     * Queues the given inspector to be run over the tree with the given root position this tick, in a traversal of its
+     * own after the one shared by the inspectors from {@link #queue}.
+     */
+    public static void queueSeparately(Level level, BlockPos rootPos, NodeInspector inspector) {
+        queue(level, rootPos, inspector, true);
+    }
+
+    private static void queue(Level level, BlockPos rootPos, NodeInspector inspector, boolean separate) {
+        if (level.isClientSide) {
+            TreeHelper.startAnalysisFromRoot(level, rootPos, new MapSignal(inspector));
+            return;
+        }
+        final Pending pending = PENDING.computeIfAbsent(level.dimension(), k -> new LinkedHashMap<>())
+                .computeIfAbsent(rootPos.asLong(), k -> new Pending());
+        pending.shared.removeIf(queued -> queued.getClass() == inspector.getClass());
+        pending.separate.removeIf(queued -> queued.getClass() == inspector.getClass());
+        (separate ? pending.separate : pending.shared).add(inspector);
+    }
+
+    /**
+     * @return {@code true} if an inspector of the given class is waiting to be run over the tree with the given root
+     * position this tick
+     */
+    public static boolean isQueued(Level level, BlockPos rootPos, Class<? extends NodeInspector> inspectorClass) {
+        final Map<Long, Pending> levelPending = PENDING.get(level.dimension());
+        if (levelPending == null) {
+            return false;
+        }
+        final Pending pending = levelPending.get(rootPos.asLong());
+        return pending != null && (pending.contains(pending.shared, inspectorClass) ||
+                pending.contains(pending.separate, inspectorClass));
+    }
+
+    /**
+     * Runs the traversals queued for every tree in the given level: one per tree with all of its shared inspectors,
+     * then one for each of its separate inspectors.
+     */
+    public static void run(Level level) {
+        final Map<Long, Pending> levelPending = PENDING.remove(level.dimension());
+        if (levelPending == null) {
+            return;
+        }
+        final BlockPos.MutableBlockPos rootPos = new BlockPos.MutableBlockPos();
+        levelPending.forEach((pos, pending) -> {
+            rootPos.set(pos);
+            if (!pending.shared.isEmpty()) {
+                startAnalysis(level, rootPos, new MapSignal(pending.shared.toArray(new NodeInspector[0])));
+            }
+            for (NodeInspector inspector : pending.separate) {
+                startAnalysis(level, rootPos, new MapSignal(inspector));
+            }
+        });
+    }
+
+    private static void startAnalysis(Level level, BlockPos.MutableBlockPos rootPos, MapSignal signal) {
+        // The tree may be gone, or changed by an earlier traversal, so the root is looked up again each time.
+        final RootyBlock dirt = TreeHelper.getRooty(level.getBlockState(rootPos));
+        if (dirt != null) {
+            dirt.startAnalysis(level, rootPos.immutable(), signal);
+        }
+    }
+
+    public static void unloadLevel(Level level) {
+        PENDING.remove(level.dimension());
+    }
+
+    private static final class Pending {
+        private final List<NodeInspector> shared = new ArrayList<>(2);
+        private final List<NodeInspector> separate = new ArrayList<>(1);
+
+        private boolean contains(List<NodeInspector> inspectors, Class<? extends NodeInspector> inspectorClass) {
+            for (NodeInspector inspector : inspectors) {
+                if (inspector.getClass() == inspectorClass) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+}
@@ -1,7 +1,6 @@
 package com.ferreusveritas.dynamictrees.systems.substance;
 
 import com.ferreusveritas.dynamictrees.api.TreeHelper;
-import com.ferreusveritas.dynamictrees.api.network.MapSignal;
 import com.ferreusveritas.dynamictrees.api.substance.SubstanceEffect;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.systems.nodemapper.TransformNode;
@@ -31,7 +30,12 @@ public class TransformSubstance implements SubstanceEffect {
                 if (level.isClientSide) {
                     TreeHelper.treeParticles(level, rootPos, ParticleTypes.FIREWORK, 8);
                 } else {
-                    dirt.startAnalysis(level, rootPos, new MapSignal(new TransformNode(fromSpecies, toSpecies)));
+                    // The species doesn't change until the queued transform runs, so a second one this tick is refused.
+                    // Only the server queues transforms, so only the server checks. The client just shows particles.
+                    if (SubstanceTraversals.isQueued(level, rootPos, TransformNode.class)) {
+                        return false;
+                    }
+                    SubstanceTraversals.queueSeparately(level, rootPos, new TransformNode(fromSpecies, toSpecies));
                 }
                 return true;
             }
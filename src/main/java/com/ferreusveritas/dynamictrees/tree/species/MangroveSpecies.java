@@ -11,7 +11,7 @@ import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.block.rooty.SoilHelper;
 import com.ferreusveritas.dynamictrees.growthlogic.GrowthLogicKit;
 import com.ferreusveritas.dynamictrees.growthlogic.GrowthLogicKitConfiguration;
-import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.systems.GrowSignal;
 import com.ferreusveritas.dynamictrees.tree.family.Family;
 import com.ferreusveritas.dynamictrees.tree.family.MangroveFamily;
@@ -165,7 +165,7 @@ public class MangroveSpecies extends Species {
         context.rootPos().move(Direction.UP, yOffset);
 
             if (super.generate(context)
-                    && !JoCodeRegistry.getCodes(this.getRegistryName(), true).isEmpty()) {
+                    && JoCodeRegistry.hasCodes(this.getRegistryName(), true)) {
                 final JoCode code = JoCodeRegistry.getRandomCode(this.getRegistryName(), context.radius(), context.random(), true);
                 if (code != null) {
                     code.generate(context);
@@ -213,7 +213,7 @@ public class MangroveSpecies extends Species {
     }
 
     public float getRootEnergy(Level level, BlockPos rootPos) {
-        return this.rootLogicKit.getEnergy(new PositionalSpeciesContext(level, rootPos, this));
+        return this.rootLogicKit.getEnergy(GrowthScratch.get().positional(level, rootPos, this));
     }
 
     public Species setRootsGrowthLogicKit(GrowthLogicKit logicKit) {
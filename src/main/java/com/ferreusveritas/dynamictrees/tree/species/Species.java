@@ -26,6 +26,7 @@ import com.ferreusveritas.dynamictrees.block.leaves.LeavesProperties;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
 import com.ferreusveritas.dynamictrees.block.rooty.SoilHelper;
 import com.ferreusveritas.dynamictrees.block.rooty.SoilProperties;
+import com.ferreusveritas.dynamictrees.block.rooty.TreeRootIndex;
 import com.ferreusveritas.dynamictrees.compat.season.NormalSeasonManager;
 import com.ferreusveritas.dynamictrees.compat.season.SeasonHelper;
 import com.ferreusveritas.dynamictrees.data.DTBlockTags;
@@ -35,12 +36,11 @@ import com.ferreusveritas.dynamictrees.data.provider.DTItemModelProvider;
 import com.ferreusveritas.dynamictrees.data.provider.DTLangProvider;
 import com.ferreusveritas.dynamictrees.data.provider.DTLootTableProvider;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
-import com.ferreusveritas.dynamictrees.entity.LingeringEffectorEntity;
 import com.ferreusveritas.dynamictrees.entity.animation.AnimationHandler;
 import com.ferreusveritas.dynamictrees.event.BiomeSuitabilityEvent;
 import com.ferreusveritas.dynamictrees.growthlogic.GrowthLogicKit;
 import com.ferreusveritas.dynamictrees.growthlogic.GrowthLogicKitConfiguration;
-import com.ferreusveritas.dynamictrees.growthlogic.context.PositionalSpeciesContext;
+import com.ferreusveritas.dynamictrees.growthlogic.context.GrowthScratch;
 import com.ferreusveritas.dynamictrees.init.DTConfigs;
 import com.ferreusveritas.dynamictrees.init.DTRegistries;
 import com.ferreusveritas.dynamictrees.init.DTTrees;
@@ -60,6 +60,7 @@ import com.ferreusveritas.dynamictrees.systems.nodemapper.*;
 import com.ferreusveritas.dynamictrees.systems.pod.Pod;
 import com.ferreusveritas.dynamictrees.systems.substance.FertilizeSubstance;
 import com.ferreusveritas.dynamictrees.systems.substance.GrowthSubstance;
+import com.ferreusveritas.dynamictrees.systems.substance.LingeringEffectScheduler;
 import com.ferreusveritas.dynamictrees.tree.Resettable;
 import com.ferreusveritas.dynamictrees.tree.family.Family;
 import com.ferreusveritas.dynamictrees.util.*;
@@ -508,7 +509,7 @@ public class Species extends RegistryEntry<Species> implements Resettable<Specie
     }
 
     public float getEnergy(Level level, BlockPos rootPos) {
-        return this.logicKit.getEnergy(new PositionalSpeciesContext(level, rootPos, this));
+        return this.logicKit.getEnergy(GrowthScratch.get().positional(level, rootPos, this));
     }
 
     public float getGrowthRate(Level level, BlockPos rootPos) {
@@ -853,10 +854,9 @@ public class Species extends RegistryEntry<Species> implements Resettable<Specie
 
     public LogsAndSticks getLogsAndSticks(NetVolumeNode.Volume volume, boolean silkTouch, int fortuneLevel) {
         List<ItemStack> logsList = new LinkedList<>();
-        int[] volArray = volume.getRawVolumesArray();
         float stickVol = 0;
-        for (int i = 0; i < volArray.length; i++) {
-            float vol = (volArray[i] / (float) NetVolumeNode.Volume.VOXELSPERLOG);
+        for (int i = 0; i < volume.getNumBranchTypes(); i++) {
+            float vol = volume.getVolume(i);
             if (vol > 0) {
                 stickVol += getFamily().getValidBranchBlock(i).getPrimitiveLogs(vol, logsList);
             }
@@ -1182,6 +1182,7 @@ public class Species extends RegistryEntry<Species> implements Resettable<Specie
         if (tileEntity instanceof SpeciesBlockEntity speciesTE) {
             speciesTE.setSpecies(this);
         }
+        TreeRootIndex.invalidateSpecies(level, rootPos);
 
         return true;
     }
@@ -1912,7 +1913,7 @@ public class Species extends RegistryEntry<Species> implements Resettable<Specie
         if (effect != null) {
             boolean applied = effect.apply(level, rootPos);
             if (applied && effect.isLingering()) {
-                level.addFreshEntity(new LingeringEffectorEntity(level, rootPos, effect));
+                LingeringEffectScheduler.add(level, rootPos, effect);
                 return true;
             } else {
                 return applied;
@@ -2128,7 +2129,7 @@ public class Species extends RegistryEntry<Species> implements Resettable<Specie
             return false;
         }
 
-        if (!JoCodeRegistry.getCodes(this.getRegistryName()).isEmpty()) {
+        if (JoCodeRegistry.hasCodes(this.getRegistryName(), false)) {
             final JoCode code = JoCodeRegistry.getRandomCode(this.getRegistryName(), context.radius(), context.random());
             if (code != null) {
                 code.generate(context);
@@ -5,6 +5,7 @@ import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
 import com.ferreusveritas.dynamictrees.block.leaves.DynamicLeavesBlock;
 import com.ferreusveritas.dynamictrees.block.leaves.LeavesProperties;
 import com.ferreusveritas.dynamictrees.systems.nodemapper.NetVolumeNode;
+import com.ferreusveritas.dynamictrees.systems.nodemapper.StateNode;
 import com.ferreusveritas.dynamictrees.tree.species.Species;
 import com.google.common.collect.AbstractIterator;
 import net.minecraft.core.BlockPos;
@@ -19,7 +20,8 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.function.Function;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 public class BranchDestructionData {
@@ -39,6 +41,8 @@ public class BranchDestructionData {
     public final int trunkHeight;
 
     public static final BlockBounds bounds = new BlockBounds(new BlockPos(-64, -64, -64), new BlockPos(64, 64, 64));
+    /** Marks an encoded position that fell out of bounds while merging. No real encoding has every bit set. */
+    private static final int OUT_OF_BOUNDS = -1;
 
     public BranchDestructionData() {
         this.species = Species.NULL_SPECIES;
@@ -57,9 +61,45 @@ public class BranchDestructionData {
         this.trunkHeight = 0;
     }
 
-    private Map<BlockPos, BranchConnectionData> unencodedBranches;
-    private Map<BlockPos, BlockState> unencodedLeaves;
-    private List<BlockPos> unencodedEnds;
+    public BranchDestructionData(Species species, int[] branchesRadiusPosition, int[] branchesConnections, int[] branchesBlockIndex, int[] leaves, int[] leavesBlockIndex, List<BranchBlock.ItemStackPos> leavesDrops, int[] endPoints, NetVolumeNode.Volume volume, BlockPos cutPos, BlockPos basePos, Direction cutDir, Direction toolDir, int trunkHeight) {
+        this.species = species;
+        this.destroyedBranchesRadiusPosition = branchesRadiusPosition;
+        this.destroyedBranchesConnections = branchesConnections;
+        this.destroyedBranchesBlockIndex = branchesBlockIndex;
+        this.destroyedLeaves = leaves;
+        this.destroyedLeavesBlockIndex = leavesBlockIndex;
+        this.leavesDrops = leavesDrops;
+        this.endPoints = endPoints;
+        this.woodVolume = volume;
+        this.cutPos = cutPos;
+        this.basePos = basePos;
+        this.cutDir = cutDir;
+        this.toolDir = toolDir;
+        this.trunkHeight = trunkHeight;
+    }
+
+    /**
+     * Creates destruction data from branches already encoded by a {@link StateNode}, which avoids mapping every branch
+     * to a {@link BlockPos} first.
+     */
+    public BranchDestructionData(Species species, StateNode branches, Map<BlockPos, BlockState> leaves, List<BranchBlock.ItemStackPos> leavesDrops, List<BlockPos> ends, NetVolumeNode.Volume volume, BlockPos cutPos, BlockPos basePos, Direction cutDir, Direction toolDir, int trunkHeight) {
+        this.species = species;
+        this.destroyedBranchesRadiusPosition = branches.getRadiusPositions();
+        this.destroyedBranchesConnections = branches.getConnections();
+        this.destroyedBranchesBlockIndex = branches.getBlockIndices();
+        int[][] encodedLeavesData = convertLeavesToIntArray(leaves, species);
+        this.destroyedLeaves = encodedLeavesData[0];
+        this.destroyedLeavesBlockIndex = encodedLeavesData[1];
+        this.leavesDrops = leavesDrops;
+        this.endPoints = convertEndPointsToIntArray(ends);
+        this.woodVolume = volume;
+        this.cutPos = cutPos;
+        this.basePos = basePos;
+        this.cutDir = cutDir;
+        this.toolDir = toolDir;
+        this.trunkHeight = trunkHeight;
+    }
+
     public BranchDestructionData(Species species, Map<BlockPos, BranchConnectionData> branches, Map<BlockPos, BlockState> leaves, List<BranchBlock.ItemStackPos> leavesDrops, List<BlockPos> ends, NetVolumeNode.Volume volume, BlockPos cutPos, BlockPos basePos, Direction cutDir, Direction toolDir, int trunkHeight) {
         this.species = species;
         int[][] encodedBranchData = convertBranchesToIntArrays(branches);
@@ -77,11 +117,8 @@ public class BranchDestructionData {
         this.cutDir = cutDir;
         this.toolDir = toolDir;
         this.trunkHeight = trunkHeight;
-        //these are only used for merging destructionData
-        unencodedBranches = branches;
-        unencodedLeaves = leaves;
-        unencodedEnds = ends;
     }
+
     public BranchDestructionData(Species species, Map<BlockPos, BranchConnectionData> branches, Map<BlockPos, BlockState> leaves, List<BranchBlock.ItemStackPos> leavesDrops, List<BlockPos> ends, NetVolumeNode.Volume volume, BlockPos cutPos, Direction cutDir, Direction toolDir, int trunkHeight) {
         this(species, branches, leaves, leavesDrops, ends, volume, cutPos, cutPos, cutDir, toolDir, trunkHeight);
     }
@@ -89,18 +126,51 @@ public class BranchDestructionData {
     public BranchDestructionData merge (BranchDestructionData other){
         //All the positions are relative to the cutPos, so when merging they must all be offset by their difference
         final BlockPos offset = other.cutPos.subtract(cutPos);
-        //Merge and offset branches
-        Map<BlockPos, BranchConnectionData> newBranches = new HashMap<>(unencodedBranches);
-        other.unencodedBranches.forEach((key, value) -> newBranches.put(key.offset(offset), value));
+        final int dx = offset.getX(), dy = offset.getY(), dz = offset.getZ();
+
+        //Merge and offset branches, dropping any that end up out of bounds
+        int[] otherBranches = offsetRelPositions(other.destroyedBranchesRadiusPosition, dx, dy, dz);
+        int branches = destroyedBranchesRadiusPosition.length;
+        int[] newBranches = Arrays.copyOf(destroyedBranchesRadiusPosition, branches + otherBranches.length);
+        int[] newConnections = Arrays.copyOf(destroyedBranchesConnections, newBranches.length);
+        int[] newBranchBlocks = Arrays.copyOf(destroyedBranchesBlockIndex, newBranches.length);
+        for (int i = 0; i < otherBranches.length; i++) {
+            if (otherBranches[i] != OUT_OF_BOUNDS) {
+                newBranches[branches] = otherBranches[i];
+                newConnections[branches] = other.destroyedBranchesConnections[i];
+                newBranchBlocks[branches++] = other.destroyedBranchesBlockIndex[i];
+            }
+        }
+
         //Merge and offset leaves
-        Map<BlockPos, BlockState> newLeaves = new HashMap<>(unencodedLeaves);
-        other.unencodedLeaves.forEach((key, value) -> newLeaves.put(key.offset(offset), value));
+        int[] otherLeaves = offsetRelPositions(other.destroyedLeaves, dx, dy, dz);
+        int leaves = destroyedLeaves.length;
+        int[] newLeaves = Arrays.copyOf(destroyedLeaves, leaves + otherLeaves.length);
+        int[] newLeavesBlocks = Arrays.copyOf(destroyedLeavesBlockIndex, newLeaves.length);
+        for (int i = 0; i < otherLeaves.length; i++) {
+            if (otherLeaves[i] != OUT_OF_BOUNDS) {
+                newLeaves[leaves] = otherLeaves[i];
+                newLeavesBlocks[leaves++] = other.destroyedLeavesBlockIndex[i];
+            }
+        }
+
         //Merge and offset leaves drops
-        List<BranchBlock.ItemStackPos> newLeavesDrops = new LinkedList<>(leavesDrops);
-        newLeavesDrops.addAll(other.leavesDrops.stream().map(a->new BranchBlock.ItemStackPos(a.stack, a.pos.offset(offset))).toList());
+        List<BranchBlock.ItemStackPos> newLeavesDrops = new ArrayList<>(leavesDrops.size() + other.leavesDrops.size());
+        newLeavesDrops.addAll(leavesDrops);
+        for (BranchBlock.ItemStackPos drop : other.leavesDrops) {
+            newLeavesDrops.add(new BranchBlock.ItemStackPos(drop.stack, drop.pos.offset(offset)));
+        }
+
         //Merge and offset ends
-        List<BlockPos> newEnds = new LinkedList<>(unencodedEnds);
-        newEnds.addAll(other.unencodedEnds.stream().map(e->e.offset(offset)).toList());
+        int[] otherEnds = offsetRelPositions(other.endPoints, dx, dy, dz);
+        int ends = endPoints.length;
+        int[] newEnds = Arrays.copyOf(endPoints, ends + otherEnds.length);
+        for (int end : otherEnds) {
+            if (end != OUT_OF_BOUNDS) {
+                newEnds[ends++] = end;
+            }
+        }
+
         //Merge volumes
         NetVolumeNode.Volume newVolume = new NetVolumeNode.Volume(woodVolume.getRawVolumesArray());
         newVolume.addVolume(other.woodVolume);
@@ -114,7 +184,9 @@ public class BranchDestructionData {
         //Finally the new destructionData is generated.
         // All other parameters use the values from the first destructionData (this).
         return new BranchDestructionData(
-                species, newBranches, newLeaves, newLeavesDrops, newEnds, newVolume,
+                species, Arrays.copyOf(newBranches, branches), Arrays.copyOf(newConnections, branches),
+                Arrays.copyOf(newBranchBlocks, branches), Arrays.copyOf(newLeaves, leaves),
+                Arrays.copyOf(newLeavesBlocks, leaves), newLeavesDrops, Arrays.copyOf(newEnds, ends), newVolume,
                 cutPos, newBasePos, cutDir, toolDir, newHeight
         );
     }
@@ -200,11 +272,15 @@ public class BranchDestructionData {
     }
 
     private int encodeBranchesRadiusPos(BlockPos relPos, BranchBlock branchBlock, BlockState state) {
+        return encodeBranchesRadiusPos(relPos.getX(), relPos.getY(), relPos.getZ(), branchBlock, state);
+    }
+
+    public static int encodeBranchesRadiusPos(int relX, int relY, int relZ, BranchBlock branchBlock, BlockState state) {
         return ((branchBlock.getRadius(state) & 0x1F) << 24) | //Radius 0 - 31
-                encodeRelBlockPos(relPos);
+                encodeRelBlockPos(relX, relY, relZ);
     }
 
-    private int encodeBranchesConnections(Connections exState) {
+    public static int encodeBranchesConnections(Connections exState) {
         int result = 0;
         int[] radii = exState.getAllRadii();
         for (Direction face : Direction.values()) {
@@ -215,7 +291,7 @@ public class BranchDestructionData {
         return result;
     }
 
-    private int encodeBranchBlocks(BranchBlock branch) {
+    public static int encodeBranchBlocks(BranchBlock branch) {
         return branch.getFamily().getBranchBlockIndex(branch);
     }
 
@@ -350,7 +426,7 @@ public class BranchDestructionData {
     // End Points
     ///////////////////////////////////////////////////////////
 
-    private int[] convertEndPointsToIntArray(List<BlockPos> endPoints) {
+    private static int[] convertEndPointsToIntArray(List<BlockPos> endPoints) {
         int[] data = new int[endPoints.size()];
         int index = 0;
 
@@ -405,7 +481,7 @@ public class BranchDestructionData {
      */
     public Iterable<BlockPos> getPositions(PosType posType, boolean absolute) {
 
-        final Function<Integer, BlockPos> getter;
+        final IntFunction<BlockPos> getter;
         final int limit;
 
         switch (posType) {
@@ -440,15 +516,64 @@ public class BranchDestructionData {
         };
     }
 
+    /**
+     * Passes the relative or absolute positions of a position type to the given action one at a time, decoding each
+     * straight into the same mutable position. The position passed must not be kept beyond the call.
+     */
+    public void forEachPosition(PosType posType, boolean absolute, Consumer<BlockPos.MutableBlockPos> action) {
+        final int[] encoded = switch (posType) {
+            case BRANCHES -> destroyedBranchesRadiusPosition;
+            case LEAVES -> destroyedLeaves;
+            case ENDPOINTS -> endPoints;
+        };
+
+        // When a root system is involved, the relative positions are moved down.
+        final BlockPos relCutPos = basePos != cutPos ? getRelativeCutPos() : BlockPos.ZERO;
+        final BlockPos origin = absolute ? relCutPos.offset(basePos) : relCutPos;
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int value : encoded) {
+            pos.set(origin.getX() + ((value >> 16) & 0xFF) - 64,
+                    origin.getY() + ((value >> 8) & 0xFF) - 64,
+                    origin.getZ() + (value & 0xFF) - 64);
+            action.accept(pos);
+        }
+    }
+
 
     ///////////////////////////////////////////////////////////
     // Generic
     ///////////////////////////////////////////////////////////
 
     public static int encodeRelBlockPos(BlockPos relPos) {
-        return (((relPos.getX() + 64) & 0xFF) << 16) |
-                (((relPos.getY() + 64) & 0xFF) << 8) |
-                (((relPos.getZ() + 64) & 0xFF));
+        return encodeRelBlockPos(relPos.getX(), relPos.getY(), relPos.getZ());
+    }
+
+    public static int encodeRelBlockPos(int relX, int relY, int relZ) {
+        return (((relX + 64) & 0xFF) << 16) |
+                (((relY + 64) & 0xFF) << 8) |
+                (((relZ + 64) & 0xFF));
+    }
+
+    /**
+     * @return true if the relative position is within {@link #bounds}, and so can be encoded
+     */
+    public static boolean inBounds(int relX, int relY, int relZ) {
+        return relX >= -64 && relX <= 64 && relY >= -64 && relY <= 64 && relZ >= -64 && relZ <= 64;
+    }
+
+    /**
+     * Offsets the positions packed into the low 24 bits of each of the given values, keeping the upper bits as they are.
+     * Positions that end up out of {@link #bounds} are replaced with {@link #OUT_OF_BOUNDS}.
+     */
+    private static int[] offsetRelPositions(int[] encoded, int dx, int dy, int dz) {
+        final int[] offset = new int[encoded.length];
+        for (int i = 0; i < encoded.length; i++) {
+            final int x = ((encoded[i] >> 16) & 0xFF) - 64 + dx;
+            final int y = ((encoded[i] >> 8) & 0xFF) - 64 + dy;
+            final int z = (encoded[i] & 0xFF) - 64 + dz;
+            offset[i] = inBounds(x, y, z) ? (encoded[i] & 0xFF000000) | encodeRelBlockPos(x, y, z) : OUT_OF_BOUNDS;
+        }
+        return offset;
     }
 
     public static BlockPos decodeRelPos(int encoded) {
@@ -7,10 +7,12 @@ import com.ferreusveritas.dynamictrees.block.PodBlock;
 import com.ferreusveritas.dynamictrees.block.branch.BranchBlock;
 import com.ferreusveritas.dynamictrees.block.branch.SurfaceRootBlock;
 import com.ferreusveritas.dynamictrees.block.rooty.RootyBlock;
+import com.ferreusveritas.dynamictrees.block.rooty.TreeRootIndex;
 import com.ferreusveritas.dynamictrees.entity.FallingTreeEntity;
 import com.ferreusveritas.dynamictrees.systems.nodemapper.CollectorNode;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -26,7 +28,6 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author ferreusveritas
@@ -99,23 +100,63 @@ public class ChunkTreeHelper {
         return orphansCleared;
     }
 
+    /**
+     * Removes every tree in the given chunks. Rooted trees are found through the {@link TreeRootIndex}, after which
+     * only the chunk sections whose palettes still contain branches are scanned for any that are left.
+     *
+     * @param chunkPos the chunk position where the effect is intended
+     * @param radius   radius of effect in chunk width units
+     * @return the number of trees removed
+     */
     public static int removeAllBranchesFromChunk(Level level, @Nullable ChunkPos chunkPos, int radius) {
         if (chunkPos == null) {
             throw new NullPointerException("Null chunk position");
         }
 
-        final BlockBounds bounds = getEffectiveBlockBounds(level, chunkPos, radius);
-        final AtomicInteger treesCleared = new AtomicInteger();
+        int treesCleared = 0;
 
-        for (BlockPos pos : bounds) {
-            BlockState state = level.getBlockState(pos);
-            TreeHelper.getBranchOpt(state).ifPresent(branchBlock -> {
-                doTreeDestroy(level, branchBlock, pos);
-                treesCleared.getAndIncrement();
-            });
+        for (BlockPos rootPos : TreeRootIndex.getRootPositions(level, chunkPos, radius)) {
+            final RootyBlock rootyBlock = TreeHelper.getRooty(level.getBlockState(rootPos));
+            if (rootyBlock == null) {
+                continue;
+            }
+            final BlockPos trunkPos = rootPos.relative(rootyBlock.getTrunkDirection(level, rootPos));
+            final Optional<BranchBlock> trunk = TreeHelper.getBranchOpt(level.getBlockState(trunkPos));
+            if (trunk.isPresent()) {
+                doTreeDestroy(level, trunk.get(), trunkPos);
+                treesCleared++;
+            }
+        }
+
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int chunkX = chunkPos.x - radius; chunkX <= chunkPos.x + radius; chunkX++) {
+            for (int chunkZ = chunkPos.z - radius; chunkZ <= chunkPos.z + radius; chunkZ++) {
+                final LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                final LevelChunkSection[] sections = chunk.getSections();
+                for (int index = 0; index < sections.length; index++) {
+                    final LevelChunkSection section = sections[index];
+                    if (section.hasOnlyAir() || !section.maybeHas(TreeHelper::isBranch)) {
+                        continue;
+                    }
+                    final int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(index));
+                    for (int y = 0; y < CHUNK_WIDTH; y++) {
+                        for (int z = 0; z < CHUNK_WIDTH; z++) {
+                            for (int x = 0; x < CHUNK_WIDTH; x++) {
+                                // Read from the level as destroying a tree may have changed the section.
+                                pos.set(chunk.getPos().getMinBlockX() + x, minY + y, chunk.getPos().getMinBlockZ() + z);
+                                final Optional<BranchBlock> branchBlock = TreeHelper.getBranchOpt(level.getBlockState(pos));
+                                if (branchBlock.isPresent()) {
+                                    doTreeDestroy(level, branchBlock.get(), pos.immutable());
+                                    treesCleared++;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
         }
 
-        return treesCleared.get();
+        return treesCleared;
     }
 
     public static BlockBounds getEffectiveBlockBounds(Level level, ChunkPos chunkPos, int radius) {
@@ -156,16 +197,14 @@ public class ChunkTreeHelper {
 
         // Get the bounds of the tree, all leaves and branches but not the rooty block
         BlockBounds treeBounds = new BlockBounds(destroyData.cutPos);
-        destroyData.getPositions(BranchDestructionData.PosType.LEAVES, true).forEach(treeBounds::union);
-        destroyData.getPositions(BranchDestructionData.PosType.BRANCHES, true).forEach(treeBounds::union);
+        destroyData.forEachPosition(BranchDestructionData.PosType.LEAVES, true, treeBounds::union);
+        destroyData.forEachPosition(BranchDestructionData.PosType.BRANCHES, true, treeBounds::union);
         treeBounds.expand(1); // Expand by one to contain the 3d "outline" of the voxels
 
         // Mark voxels for leaves or branch blocks
         SimpleVoxmap treeVoxmap = new SimpleVoxmap(treeBounds);
-        destroyData.getPositions(BranchDestructionData.PosType.LEAVES, true)
-                .forEach(pos -> treeVoxmap.setVoxel(pos, TREE));
-        destroyData.getPositions(BranchDestructionData.PosType.BRANCHES, true)
-                .forEach(pos -> treeVoxmap.setVoxel(pos, TREE));
+        destroyData.forEachPosition(BranchDestructionData.PosType.LEAVES, true, pos -> treeVoxmap.setVoxel(pos, TREE));
+        destroyData.forEachPosition(BranchDestructionData.PosType.BRANCHES, true, pos -> treeVoxmap.setVoxel(pos, TREE));
 
         // Set voxels in the outline map for any adjacent voxels from the source tree map
         SimpleVoxmap outlineVoxmap = new SimpleVoxmap(treeVoxmap);
@@ -150,6 +150,142 @@ public final class CoordUtils {
         return BlockPos.ZERO;
     }
 
+    /**
+     * Finds a fruit position in the same way as {@link #getRayTraceFruitPos(LevelAccessor, Species, BlockPos, BlockPos,
+     * SafeChunkBounds)}, drawing the same random numbers, but steps through the blocks of the given occupancy map,
+     * only clipping against the collision shapes of the leaves and other blocks the ray enters.
+     *
+     * @param map       the occupancy map of the tree, shared between all fruit placed on it during one update
+     * @param species   the species of the tree
+     * @param treePos   the position of the base of the trunk
+     * @param branchPos the end point to look at
+     * @return the position to place fruit at, or {@link BlockPos#ZERO} if none was found
+     */
+    public static BlockPos getRayTraceFruitPos(LeavesOccupancyMap map, Species species, BlockPos treePos, BlockPos branchPos) {
+        final BlockPos hitPos = branchVoxelTrace(map, treePos, branchPos, 45, 60, 4 + map.getRandom().nextInt(3));
+
+        if (hitPos != null) {
+            final int x = hitPos.getX();
+            final int z = hitPos.getZ();
+            int y = hitPos.getY();
+            do { // Run straight down until we hit a block that's non compatible leaves.
+                y--;
+            } while (map.get(x, y, z) == LeavesOccupancyMap.LEAVES);
+
+            final BlockPos fruitPos = new BlockPos(x, y, z);
+            // If that block is air then we have a winner, as long as it's not only air because it's out of bounds.
+            if (map.get(x, y, z) == LeavesOccupancyMap.EMPTY && map.getSafeBounds().inBounds(fruitPos, false)) {
+                return fruitPos;
+            }
+        }
+
+        return BlockPos.ZERO;
+    }
+
+    /**
+     * Casts a ray at a branch in the same way as {@link #branchRayTrace(LevelAccessor, Species, BlockPos, BlockPos,
+     * float, float, float, SafeChunkBounds)}, stepping through the blocks of the given occupancy map with an integer
+     * DDA. Empty and passable blocks are skipped without being read again, and the ray is clipped against the
+     * collision shape of any other block it enters, so it stops exactly where the level's clip would.
+     *
+     * @return the position of the leaves the ray hit, or {@code null} if it hit anything else or nothing at all
+     */
+    @Nullable
+    public static BlockPos branchVoxelTrace(LeavesOccupancyMap map, BlockPos treePos, BlockPos branchPos, float spreadHor, float spreadVer, float distance) {
+        double outX = branchPos.getX() - treePos.getX();
+        double outZ = branchPos.getZ() - treePos.getZ();
+
+        if (outX == 0 && outZ == 0) {
+            outX = 1;
+            spreadHor = 180;
+        }
+
+        final RandomSource random = map.getRandom();
+        final float deltaYaw = (random.nextFloat() * spreadHor * 2) - spreadHor;
+        final float deltaPitch = (random.nextFloat() * -spreadVer);
+
+        // The same steps as the vector maths in branchRayTrace, without creating the vectors.
+        double length = Math.sqrt(outX * outX + outZ * outZ);
+        outX /= length;
+        outZ /= length;
+        double outY = Math.tan(Math.toRadians(deltaPitch));
+        length = Math.sqrt(outX * outX + outY * outY + outZ * outZ);
+        outX /= length;
+        outY /= length;
+        outZ /= length;
+        final float yaw = (float) Math.toRadians(deltaYaw);
+        final double cos = Mth.cos(yaw);
+        final double sin = Mth.sin(yaw);
+        final double rotatedX = outX * cos + outZ * sin;
+        final double rotatedZ = outZ * cos - outX * sin;
+
+        final double branchX = branchPos.getX() + 0.5;
+        final double branchY = branchPos.getY() + 0.5;
+        final double branchZ = branchPos.getZ() + 0.5;
+        final double vantageX = branchX + rotatedX * distance;
+        final double vantageY = branchY + outY * distance;
+        final double vantageZ = branchZ + rotatedZ * distance;
+
+        int x = Mth.floor(vantageX);
+        int y = Mth.floor(vantageY);
+        int z = Mth.floor(vantageZ);
+
+        if (map.get(x, y, z) != LeavesOccupancyMap.EMPTY) { // The observing block must be in free space.
+            return null;
+        }
+
+        final double dx = branchX - vantageX;
+        final double dy = branchY - vantageY;
+        final double dz = branchZ - vantageZ;
+        final int stepX = Mth.sign(dx);
+        final int stepY = Mth.sign(dy);
+        final int stepZ = Mth.sign(dz);
+        // The fraction of the ray travelled per block along each axis, and when the ray next crosses a block boundary.
+        final double tDeltaX = stepX == 0 ? Double.MAX_VALUE : stepX / dx;
+        final double tDeltaY = stepY == 0 ? Double.MAX_VALUE : stepY / dy;
+        final double tDeltaZ = stepZ == 0 ? Double.MAX_VALUE : stepZ / dz;
+        double tMaxX = tDeltaX * (stepX > 0 ? 1 - Mth.frac(vantageX) : Mth.frac(vantageX));
+        double tMaxY = tDeltaY * (stepY > 0 ? 1 - Mth.frac(vantageY) : Mth.frac(vantageY));
+        double tMaxZ = tDeltaZ * (stepZ > 0 ? 1 - Mth.frac(vantageZ) : Mth.frac(vantageZ));
+        // Only created once the ray enters a block that has to be clipped against its shape.
+        Vec3 vantageVec = null;
+        Vec3 branchVec = null;
+
+        while (tMaxX <= 1 || tMaxY <= 1 || tMaxZ <= 1) {
+            if (tMaxX < tMaxY) {
+                if (tMaxX < tMaxZ) {
+                    x += stepX;
+                    tMaxX += tDeltaX;
+                } else {
+                    z += stepZ;
+                    tMaxZ += tDeltaZ;
+                }
+            } else if (tMaxY < tMaxZ) {
+                y += stepY;
+                tMaxY += tDeltaY;
+            } else {
+                z += stepZ;
+                tMaxZ += tDeltaZ;
+            }
+
+            final byte occupancy = map.get(x, y, z);
+            if (occupancy == LeavesOccupancyMap.LEAVES || occupancy == LeavesOccupancyMap.SOLID) {
+                if (vantageVec == null) {
+                    vantageVec = new Vec3(vantageX, vantageY, vantageZ);
+                    branchVec = new Vec3(branchX, branchY, branchZ);
+                }
+                final BlockHitResult result = map.clip(x, y, z, vantageVec, branchVec);
+                if (result != null) {
+                    // As with the level's clip, the block hit is the one containing the point on its shape that was hit.
+                    final BlockPos hitPos = BlockPos.containing(result.getLocation());
+                    return map.get(hitPos.getX(), hitPos.getY(), hitPos.getZ()) == LeavesOccupancyMap.LEAVES ? hitPos : null;
+                }
+            }
+        }
+
+        return null;
+    }
+
     @Nullable
     public static BlockHitResult branchRayTrace(LevelAccessor level, Species species, BlockPos treePos, BlockPos branchPos, float spreadHor, float spreadVer, float distance, SafeChunkBounds safeBounds) {
         treePos = new BlockPos(treePos.getX(), branchPos.getY(), treePos.getZ()); // Make the tree pos level with the branch pos.
@@ -337,13 +473,24 @@ public final class CoordUtils {
     };
 
     public static int coordHashCode(BlockPos pos, int a, int b, int c) {
-        int hash = (pos.getX() * a ^ pos.getY() * b ^ pos.getZ() * c) >> 1;
+        return coordHashCode(pos.getX(), pos.getY(), pos.getZ(), a, b, c);
+    }
+
+    public static int coordHashCode(int x, int y, int z, int a, int b, int c) {
+        int hash = (x * a ^ y * b ^ z * c) >> 1;
         return (hash ^ coordXor) & 0xFFFF;
     }
 
     public static int coordHashCode(BlockPos pos, int readyMade) {
+        return coordHashCode(pos.getX(), pos.getY(), pos.getZ(), readyMade);
+    }
+
+    /**
+     * Same as {@link #coordHashCode(BlockPos, int)}, for callers hashing an offset position without creating it.
+     */
+    public static int coordHashCode(int x, int y, int z, int readyMade) {
         int[] factors = coordHashMap[readyMade & 3];
-        return coordHashCode(pos, factors[0], factors[1], factors[2]);
+        return coordHashCode(x, y, z, factors[0], factors[1], factors[2]);
     }
 
     public static Iterable<BlockPos> goHorSides(BlockPos pos) {
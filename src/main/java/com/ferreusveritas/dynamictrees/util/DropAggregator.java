@@ -0,0 +1,130 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import com.ferreusveritas.dynamictrees.DynamicTrees;
+import com.ferreusveritas.dynamictrees.init.DTConfigs;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Collects the drops of a tree and merges compatible stacks that fall within the same cubic cell, so that felling a
+ * large tree spawns a handful of item entities rather than one per leaves block. Each merged drop is spawned at the
+ * average position of the drops that went into it.
+ *
+ * <p>The cell size is set by {@link DTConfigs#DROP_AGGREGATION_CELL_SIZE}, with {@code 0} passing every drop through
+ * as it was added. If {@link DTConfigs#DROP_DELIVERY} is {@link DynamicTrees.DropDelivery#INVENTORY INVENTORY}, drops
+ * are given to the player who cut the tree first and only what doesn't fit is spawned.</p>
+ */
+public final class DropAggregator {
+
+    private final int cellSize;
+    @Nullable
+    private final Player recipient;
+    private final Map<Long, Cell> cells = new LinkedHashMap<>();
+    private final List<Drop> unmerged = new ArrayList<>();
+
+    public DropAggregator(int cellSize, @Nullable Player recipient) {
+        this.cellSize = cellSize;
+        this.recipient = recipient;
+    }
+
+    /**
+     * Creates an aggregator using the configured cell size and delivery mode.
+     *
+     * @param cutter the player who cut the tree, if any
+     */
+    public static DropAggregator create(@Nullable Player cutter) {
+        final boolean deliver = DTConfigs.DROP_DELIVERY.get() == DynamicTrees.DropDelivery.INVENTORY;
+        return new DropAggregator(DTConfigs.DROP_AGGREGATION_CELL_SIZE.get(), deliver ? cutter : null);
+    }
+
+    public DropAggregator add(BlockPos pos, ItemStack stack) {
+        if (stack.isEmpty()) {
+            return this;
+        }
+        if (this.cellSize <= 0) {
+            this.unmerged.add(new Drop(pos, stack));
+            return this;
+        }
+        final long key = BlockPos.asLong(Math.floorDiv(pos.getX(), this.cellSize),
+                Math.floorDiv(pos.getY(), this.cellSize), Math.floorDiv(pos.getZ(), this.cellSize));
+        this.cells.computeIfAbsent(key, k -> new Cell()).add(pos, stack);
+        return this;
+    }
+
+    public DropAggregator addAll(BlockPos pos, Iterable<ItemStack> stacks) {
+        stacks.forEach(stack -> this.add(pos, stack));
+        return this;
+    }
+
+    /**
+     * Hands every collected drop, after merging, to the given spawner. Drops are delivered to the recipient first if
+     * there is one, so the spawner only receives what is left over.
+     *
+     * @param spawner spawns a stack at a position, such as {@link net.minecraft.world.level.block.Block#popResource}
+     */
+    public void drop(BiConsumer<BlockPos, ItemStack> spawner) {
+        this.unmerged.forEach(drop -> this.deliver(drop.pos, drop.stack, spawner));
+        this.cells.values().forEach(cell -> {
+            final BlockPos pos = cell.getPos();
+            cell.stacks.forEach(stack -> this.deliver(pos, stack, spawner));
+        });
+        this.unmerged.clear();
+        this.cells.clear();
+    }
+
+    private void deliver(BlockPos pos, ItemStack stack, BiConsumer<BlockPos, ItemStack> spawner) {
+        if (this.recipient != null && this.recipient.isAlive()) {
+            this.recipient.getInventory().add(stack); // Shrinks the stack by however much fits.
+        }
+        if (!stack.isEmpty()) {
+            spawner.accept(pos, stack);
+        }
+    }
+
+    private record Drop(BlockPos pos, ItemStack stack) {
+    }
+
+    private static final class Cell {
+        private final List<ItemStack> stacks = new ArrayList<>();
+        private long sumX;
+        private long sumY;
+        private long sumZ;
+        private int count;
+
+        void add(BlockPos pos, ItemStack stack) {
+            this.sumX += pos.getX();
+            this.sumY += pos.getY();
+            this.sumZ += pos.getZ();
+            this.count++;
+
+            stack = stack.copy();
+            for (ItemStack existing : this.stacks) {
+                if (stack.isEmpty()) {
+                    return;
+                }
+                if (ItemStack.isSameItemSameTags(existing, stack) && existing.getCount() < existing.getMaxStackSize()) {
+                    final int moved = Math.min(stack.getCount(), existing.getMaxStackSize() - existing.getCount());
+                    existing.grow(moved);
+                    stack.shrink(moved);
+                }
+            }
+            if (!stack.isEmpty()) {
+                this.stacks.add(stack);
+            }
+        }
+
+        BlockPos getPos() {
+            return new BlockPos((int) Math.round((double) this.sumX / this.count),
+                    (int) Math.round((double) this.sumY / this.count), (int) Math.round((double) this.sumZ / this.count));
+        }
+    }
+
+}
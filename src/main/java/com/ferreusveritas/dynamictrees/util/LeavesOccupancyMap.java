@@ -0,0 +1,187 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import com.ferreusveritas.dynamictrees.tree.species.Species;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.VoxelShape;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A lazily filled map of what occupies each block around a tree, as seen by the fruit ray trace in
+ * {@link CoordUtils#getRayTraceFruitPos(LeavesOccupancyMap, Species, BlockPos, BlockPos)}. Each block is read from the
+ * level at most once, the first time a ray passes through it, so the many rays cast while placing fruit on one tree
+ * share their block reads.
+ *
+ * <p>The map covers the box around the tree's end points that fruit rays can reach. Blocks outside it are still
+ * classified correctly but are read from the level every time. The backing array is reused per thread, so a map must
+ * only be used on the thread that created it and only until the next map is created on that thread.</p>
+ *
+ * <p>Blocks read while the map is in use are assumed not to change, so anything placed through it must be
+ * {@linkplain #invalidate(BlockPos) invalidated}.</p>
+ */
+public final class LeavesOccupancyMap {
+
+    /** The block has not been read yet. */
+    public static final byte UNKNOWN = 0;
+    /** The block is air, or is outside the safe bounds and so treated as air. */
+    public static final byte EMPTY = 1;
+    /** The block is not air but has no collision shape, so rays pass through it. */
+    public static final byte PASSABLE = 2;
+    /** The block is leaves compatible with the species, which rays stop at if they hit its collision shape. */
+    public static final byte LEAVES = 3;
+    /** Any other block, which stops rays that hit its collision shape. */
+    public static final byte SOLID = 4;
+
+    /** How far beyond the end points fruit rays can reach, being the longest ray plus rounding. */
+    private static final int REACH = 8;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[4096]);
+
+    private final LevelAccessor level;
+    private final Species species;
+    private final SafeChunkBounds safeBounds;
+    private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final byte[] cells;
+
+    private LeavesOccupancyMap(LevelAccessor level, Species species, SafeChunkBounds safeBounds, int minX, int minY,
+                               int minZ, int maxX, int maxY, int maxZ) {
+        this.level = level;
+        this.species = species;
+        this.safeBounds = safeBounds;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = maxX - minX + 1;
+        this.sizeY = maxY - minY + 1;
+        this.sizeZ = maxZ - minZ + 1;
+
+        final int size = this.sizeX * this.sizeY * this.sizeZ;
+        byte[] cells = BUFFER.get();
+        if (cells.length < size) {
+            cells = new byte[Integer.highestOneBit(size - 1) << 1];
+            BUFFER.set(cells);
+        } else {
+            Arrays.fill(cells, 0, size, UNKNOWN);
+        }
+        this.cells = cells;
+    }
+
+    /**
+     * Creates a map covering everything fruit rays cast at the given end points can touch.
+     *
+     * @param level      the level the tree is in
+     * @param species    the species whose leaves rays should stop at
+     * @param treePos    the position of the base of the trunk
+     * @param endPoints  the end points rays will be cast at
+     * @param safeBounds the bounds outside which blocks are treated as air
+     * @return the new map
+     */
+    public static LeavesOccupancyMap around(LevelAccessor level, Species species, BlockPos treePos,
+                                            List<BlockPos> endPoints, SafeChunkBounds safeBounds) {
+        int minX = treePos.getX(), minZ = treePos.getZ(), maxX = minX, maxY = treePos.getY(), maxZ = minZ;
+        for (BlockPos endPoint : endPoints) {
+            minX = Math.min(minX, endPoint.getX());
+            minZ = Math.min(minZ, endPoint.getZ());
+            maxX = Math.max(maxX, endPoint.getX());
+            maxY = Math.max(maxY, endPoint.getY());
+            maxZ = Math.max(maxZ, endPoint.getZ());
+        }
+        // Fruit never hangs below the base of the tree, so the bottom doesn't need the extra reach.
+        return new LeavesOccupancyMap(level, species, safeBounds, minX - REACH, treePos.getY() - 1, minZ - REACH,
+                maxX + REACH, maxY + REACH, maxZ + REACH);
+    }
+
+    public LevelAccessor getLevel() {
+        return this.level;
+    }
+
+    public RandomSource getRandom() {
+        return this.level.getRandom();
+    }
+
+    public SafeChunkBounds getSafeBounds() {
+        return this.safeBounds;
+    }
+
+    /**
+     * @return the occupancy of the block at the given coordinates, being one of {@link #EMPTY}, {@link #PASSABLE},
+     * {@link #LEAVES} or {@link #SOLID}
+     */
+    public byte get(int x, int y, int z) {
+        final int index = this.index(x, y, z);
+        if (index < 0) {
+            return this.classify(x, y, z);
+        }
+        byte occupancy = this.cells[index];
+        if (occupancy == UNKNOWN) {
+            occupancy = this.classify(x, y, z);
+            this.cells[index] = occupancy;
+        }
+        return occupancy;
+    }
+
+    /**
+     * Forgets the occupancy of the given position, so it is read from the level again next time. This must be called
+     * after changing a block the map may have read.
+     */
+    public void invalidate(BlockPos pos) {
+        final int index = this.index(pos.getX(), pos.getY(), pos.getZ());
+        if (index >= 0) {
+            this.cells[index] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Clips the given ray against the collision shape of the block at the given coordinates, so that rays can pass
+     * through the parts of {@link #LEAVES} and {@link #SOLID} blocks that aren't a full cube. Only blocks the map has
+     * classified as one of those should be clipped, which are always within the safe bounds.
+     *
+     * @return where the ray hits the block, or {@code null} if it misses its collision shape
+     */
+    @Nullable
+    public BlockHitResult clip(int x, int y, int z, Vec3 from, Vec3 to) {
+        final BlockPos pos = this.mutablePos.set(x, y, z);
+        final VoxelShape shape = this.level.getBlockState(pos).getCollisionShape(this.level, pos);
+        return shape.isEmpty() ? null : shape.clip(from, to, pos.immutable());
+    }
+
+    private int index(int x, int y, int z) {
+        x -= this.minX;
+        y -= this.minY;
+        z -= this.minZ;
+        if (x < 0 || y < 0 || z < 0 || x >= this.sizeX || y >= this.sizeY || z >= this.sizeZ) {
+            return -1;
+        }
+        return (y * this.sizeZ + z) * this.sizeX + x;
+    }
+
+    private byte classify(int x, int y, int z) {
+        final BlockPos pos = this.mutablePos.set(x, y, z);
+        if (!this.safeBounds.inBounds(pos, false)) {
+            return EMPTY;
+        }
+        final BlockState state = this.level.getBlockState(pos);
+        if (state.isAir()) {
+            return EMPTY;
+        }
+        if (this.species.getFamily().isCompatibleGenericLeaves(this.species, state, this.level, pos)) {
+            return LEAVES;
+        }
+        return state.getCollisionShape(this.level, pos).isEmpty() ? PASSABLE : SOLID;
+    }
+
+}
@@ -56,7 +56,18 @@ public final class LevelContext {
         return level;
     }
 
+    /**
+     * The context last created for a {@link Level}. Contexts are immutable, so while the same level keeps asking, as it
+     * does for the seasonal factors of every tree it ticks, the same context is handed back rather than a new one.
+     */
+    @Nullable
+    private static volatile LevelContext lastLevelContext;
+
     public static LevelContext create(LevelAccessor accessor) {
+        final LevelContext last = lastLevelContext;
+        if (last != null && last.accessor == accessor) {
+            return last;
+        }
         Level level = null;
         Long seed = null;
         if (accessor instanceof Level) {
@@ -70,7 +81,21 @@ public final class LevelContext {
         if (accessor instanceof WorldGenLevel) {
             seed = ((WorldGenLevel) accessor).getSeed();
         }
-        return new LevelContext(level.dimension(), seed, accessor, level);
+        final LevelContext context = new LevelContext(level.dimension(), seed, accessor, level);
+        if (accessor instanceof Level) {
+            lastLevelContext = context;
+        }
+        return context;
+    }
+
+    /**
+     * Forgets the cached context of the given level, so that it isn't kept alive after being unloaded.
+     */
+    public static void unloadLevel(Level level) {
+        final LevelContext last = lastLevelContext;
+        if (last != null && last.level == level) {
+            lastLevelContext = null;
+        }
     }
 
     public static ServerLevel getServerLevelOrThrow(LevelAccessor access) {
@@ -0,0 +1,117 @@
+package com.ferreusveritas.dynamictrees.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.material.FluidState;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link BlockGetter} for the blocks around one position, which reads block states straight from the chunk sections
+ * they are in rather than looking the chunk up again for every read. It is meant to be created for a single operation
+ * that reads many blocks close together, such as ageing one leaves block.
+ *
+ * <p>Sections are fetched lazily from the 3x3x3 sections around the one containing the centre, and reads anywhere else
+ * go to the level as normal. The sections pinned are the level's own, so blocks set through the level are seen by later
+ * reads here. Block entities are always read from the level.</p>
+ */
+public final class SectionBlockReader implements BlockGetter {
+
+    private final LevelAccessor level;
+    private final ChunkStatus requiredStatus;
+    private final int minSectionX;
+    private final int minSectionY;
+    private final int minSectionZ;
+    private final LevelChunkSection[] sections = new LevelChunkSection[27];
+    private int fetched = 0;
+
+    private SectionBlockReader(LevelAccessor level, BlockPos centre) {
+        this.level = level;
+        // Chunks being generated aren't full yet, but during world gen they're the ones being worked on.
+        this.requiredStatus = level instanceof Level ? ChunkStatus.FULL : ChunkStatus.EMPTY;
+        this.minSectionX = SectionPos.blockToSectionCoord(centre.getX()) - 1;
+        this.minSectionY = SectionPos.blockToSectionCoord(centre.getY()) - 1;
+        this.minSectionZ = SectionPos.blockToSectionCoord(centre.getZ()) - 1;
+    }
+
+    /**
+     * Creates a reader for the blocks around the given position.
+     */
+    public static SectionBlockReader around(LevelAccessor level, BlockPos centre) {
+        return new SectionBlockReader(level, centre);
+    }
+
+    public LevelAccessor getLevel() {
+        return this.level;
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        final LevelChunkSection section = this.getSection(pos.getX(), pos.getY(), pos.getZ());
+        return section == null ? this.level.getBlockState(pos) :
+                section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        final LevelChunkSection section = this.getSection(pos.getX(), pos.getY(), pos.getZ());
+        return section == null ? this.level.getFluidState(pos) :
+                section.getFluidState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return this.level.getBlockEntity(pos);
+    }
+
+    @Override
+    public int getHeight() {
+        return this.level.getHeight();
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return this.level.getMinBuildHeight();
+    }
+
+    /**
+     * @return the section containing the given block if it is one of those around the centre and is loaded, or
+     * {@code null} if it should be read from the level
+     */
+    @Nullable
+    private LevelChunkSection getSection(int x, int y, int z) {
+        final int sectionX = SectionPos.blockToSectionCoord(x) - this.minSectionX;
+        final int sectionY = SectionPos.blockToSectionCoord(y) - this.minSectionY;
+        final int sectionZ = SectionPos.blockToSectionCoord(z) - this.minSectionZ;
+        if (sectionX < 0 || sectionY < 0 || sectionZ < 0 || sectionX > 2 || sectionY > 2 || sectionZ > 2) {
+            return null;
+        }
+
+        final int index = (sectionY * 3 + sectionZ) * 3 + sectionX;
+        if ((this.fetched & (1 << index)) == 0) {
+            this.fetched |= 1 << index;
+            this.sections[index] = this.fetchSection(x, y, z);
+        }
+        return this.sections[index];
+    }
+
+    @Nullable
+    private LevelChunkSection fetchSection(int x, int y, int z) {
+        if (this.level.isOutsideBuildHeight(y)) {
+            return null;
+        }
+        final ChunkAccess chunk = this.level.getChunk(SectionPos.blockToSectionCoord(x),
+                SectionPos.blockToSectionCoord(z), this.requiredStatus, false);
+        return chunk == null ? null : chunk.getSection(chunk.getSectionIndex(y));
+    }
+
+}
@@ -8,6 +8,8 @@ import net.minecraft.tags.TagKey;
 import net.minecraft.util.RandomSource;
 import org.jetbrains.annotations.NotNull;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -16,12 +18,34 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
-public class DelayedHolderSet<T> implements HolderSet<T> {
+/**
+ * A holder set that is created the first time it is used, such as one that needs a registry that doesn't exist yet.
+ * The created set is kept until tags are reloaded (see {@link HolderSetCaches}), after which it is created again.
+ */
+public class DelayedHolderSet<T> implements HolderSet<T>, HolderSetCaches.Cached {
     private final Supplier<HolderSet<T>> holderSetSupplier;
+    @Nullable
+    private volatile HolderSet<T> holderSet;
+    @Nullable
+    private HolderSet<T> listenedTo;
+    private final List<Runnable> invalidationListeners = new ArrayList<>();
 
     public DelayedHolderSet(Supplier<HolderSet<T>> holderSetSupplier)
     {
-        this.holderSetSupplier = holderSetSupplier;
+        this.holderSetSupplier = () -> {
+            HolderSet<T> holderSet = this.holderSet;
+            if (holderSet == null) {
+                holderSet = holderSetSupplier.get();
+                if (holderSet != this.listenedTo) {
+                    // Pass on changes to the created set, such as its tag being rebound.
+                    holderSet.addInvalidationListener(this::runInvalidationListeners);
+                    this.listenedTo = holderSet;
+                }
+                this.holderSet = holderSet;
+            }
+            return holderSet;
+        };
+        HolderSetCaches.track(this);
     }
 
     @Override
@@ -82,7 +106,21 @@ public class DelayedHolderSet<T> implements HolderSet<T> {
 
     @Override
     public void addInvalidationListener(Runnable runnable) {
-        this.holderSetSupplier.get().addInvalidationListener(runnable);
+        synchronized (this.invalidationListeners) {
+            this.invalidationListeners.add(runnable);
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        this.holderSet = null;
+        this.runInvalidationListeners();
+    }
+
+    private void runInvalidationListeners() {
+        synchronized (this.invalidationListeners) {
+            this.invalidationListeners.forEach(Runnable::run);
+        }
     }
 
     @Override
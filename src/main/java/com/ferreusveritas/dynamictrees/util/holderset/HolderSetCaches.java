@@ -0,0 +1,40 @@
+package com.ferreusveritas.dynamictrees.util.holderset;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks the holder sets that keep their contents once worked out, so that they can all be cleared when registries or
+ * tags are reloaded and their contents may have changed. Sets are held weakly, so those no longer in use are dropped.
+ */
+public final class HolderSetCaches {
+
+    private static final Set<Cached> CACHED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private HolderSetCaches() {
+    }
+
+    static void track(Cached cached) {
+        CACHED.add(cached);
+    }
+
+    /**
+     * Clears the contents of every tracked holder set, to be worked out again when they are next used. Should be called
+     * whenever tags are updated.
+     */
+    public static void invalidateAll() {
+        final List<Cached> cached;
+        synchronized (CACHED) {
+            cached = new ArrayList<>(CACHED);
+        }
+        cached.forEach(Cached::invalidateCache);
+    }
+
+    interface Cached {
+        void invalidateCache();
+    }
+
+}
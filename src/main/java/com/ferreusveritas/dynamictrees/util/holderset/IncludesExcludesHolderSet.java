@@ -16,7 +16,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public class IncludesExcludesHolderSet<T> extends CompositeHolderSet<T> {
+public class IncludesExcludesHolderSet<T> extends CompositeHolderSet<T> implements HolderSetCaches.Cached {
     public static <T> Codec<? extends ICustomHolderSet<T>> codec(ResourceKey<? extends Registry<T>> registryKey, Codec<Holder<T>> holderCodec, boolean forceList) {
         Codec<HolderSet<T>> holderSetCodec = HolderSetCodec.create(registryKey, holderCodec, forceList);
         return RecordCodecBuilder.<IncludesExcludesHolderSet<T>>create(builder -> builder.group(
@@ -32,6 +32,7 @@ public class IncludesExcludesHolderSet<T> extends CompositeHolderSet<T> {
         super(List.of(includes, excludes));
         this.includes = includes;
         this.excludes = excludes;
+        HolderSetCaches.track(this);
     }
 
     public HolderSet<T> includes() {
@@ -55,6 +56,21 @@ public class IncludesExcludesHolderSet<T> extends CompositeHolderSet<T> {
         return this.excludes;
     }
 
+    /**
+     * Clears the cached contents of this set and its includes and excludes. Components can be added to those after they
+     * are created, in which case they won't notify them of changes themselves.
+     */
+    @Override
+    public void invalidateCache() {
+        if (this.includes instanceof CompositeHolderSet<T> compositeHolderSet) {
+            compositeHolderSet.invalidate();
+        }
+        if (this.excludes instanceof CompositeHolderSet<T> compositeHolderSet) {
+            compositeHolderSet.invalidate();
+        }
+        this.invalidate();
+    }
+
     @Override
     protected Set<Holder<T>> createSet() {
         return this.includes.stream().filter(holder -> !this.excludes.contains(holder)).collect(Collectors.toSet());
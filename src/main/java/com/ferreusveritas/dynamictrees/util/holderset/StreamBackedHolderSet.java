@@ -7,21 +7,52 @@ import net.minecraft.core.HolderSet;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.RandomSource;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.stream.Collectors;
 
-public abstract class StreamBackedHolderSet<T> implements HolderSet<T> {
+/**
+ * A holder set whose contents are given by {@link #stream()}. The stream is only run the first time the contents are
+ * needed, after which they are kept, along with an identity set for {@link #contains(Holder)}, until tags are reloaded
+ * (see {@link HolderSetCaches}).
+ */
+public abstract class StreamBackedHolderSet<T> implements HolderSet<T>, HolderSetCaches.Cached {
+    @Nullable
+    private volatile List<Holder<T>> contents;
+    @Nullable
+    private volatile Set<Holder<T>> contentsSet;
+    private final List<Runnable> invalidationListeners = new ArrayList<>();
+
+    protected StreamBackedHolderSet() {
+        HolderSetCaches.track(this);
+    }
+
     public List<Holder<T>> contents() {
-        return this.stream().collect(Collectors.toList());
+        List<Holder<T>> contents = this.contents;
+        if (contents == null) {
+            contents = Collections.unmodifiableList(this.stream().collect(Collectors.toList()));
+            final Set<Holder<T>> contentsSet = Collections.newSetFromMap(new IdentityHashMap<>(contents.size()));
+            contentsSet.addAll(contents);
+            this.contentsSet = Collections.unmodifiableSet(contentsSet);
+            this.contents = contents;
+        }
+        return contents;
     }
 
     public Set<Holder<T>> contentsSet() {
-        return this.stream().collect(Collectors.toSet());
+        Set<Holder<T>> contentsSet = this.contentsSet;
+        if (contentsSet == null) {
+            this.contents();
+            contentsSet = this.contentsSet;
+        }
+        return contentsSet;
     }
 
     @Override
@@ -31,12 +62,12 @@ public abstract class StreamBackedHolderSet<T> implements HolderSet<T> {
 
     @Override
     public Spliterator<Holder<T>> spliterator() {
-        return this.stream().spliterator();
+        return this.contents().spliterator();
     }
 
     @Override
     public Iterator<Holder<T>> iterator() {
-        return this.stream().iterator();
+        return this.contents().iterator();
     }
 
     @Override
@@ -56,11 +87,31 @@ public abstract class StreamBackedHolderSet<T> implements HolderSet<T> {
 
     @Override
     public boolean contains(Holder<T> holder) {
-        return this.stream().anyMatch(h -> Objects.equals(h, holder));
+        if (this.contentsSet().contains(holder)) {
+            return true;
+        }
+        // Direct holders are equal by value rather than identity.
+        return holder.kind() == Holder.Kind.DIRECT && this.contents().contains(holder);
     }
 
     @Override
     public Optional<TagKey<T>> unwrapKey() {
         return Optional.empty();
     }
-}
\ No newline at end of file
+
+    @Override
+    public void addInvalidationListener(Runnable runnable) {
+        synchronized (this.invalidationListeners) {
+            this.invalidationListeners.add(runnable);
+        }
+    }
+
+    @Override
+    public void invalidateCache() {
+        this.contents = null;
+        this.contentsSet = null;
+        synchronized (this.invalidationListeners) {
+            this.invalidationListeners.forEach(Runnable::run);
+        }
+    }
+}
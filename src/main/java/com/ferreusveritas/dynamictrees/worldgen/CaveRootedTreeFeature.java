@@ -6,7 +6,6 @@ import com.ferreusveritas.dynamictrees.util.LevelContext;
 import com.ferreusveritas.dynamictrees.util.SafeChunkBounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
@@ -27,10 +26,14 @@ public class CaveRootedTreeFeature extends DynamicTreeFeature {
         }
 
         BlockPos originPos = context.origin();
-        ChunkPos chunkPos = level.getChunk(originPos).getPos();
-        LevelContext levelContext = LevelContext.create(level);
 
-        PoissonDisc disc = getDisc(levelContext, chunkPos, originPos).orElse(null);
+        // Checked first as most biomes have no cave rooted trees, so there's no need to look for a disc or the ground.
+        BiomeDatabase.Entry biomeEntry = BiomeDatabases.getDefault().getEntry(level.getLevel().getBiome(originPos));
+        if (!biomeEntry.hasCaveRootedData())
+            return false;
+
+        LevelContext levelContext = LevelContext.create(level);
+        PoissonDisc disc = DISC_PROVIDER.getPoissonDiscAt(levelContext, originPos);
         if (disc == null) {
             return false;
         }
@@ -40,10 +43,6 @@ public class CaveRootedTreeFeature extends DynamicTreeFeature {
             return false;
         }
 
-        BiomeDatabase.Entry biomeEntry = BiomeDatabases.getDefault().getEntry(level.getLevel().getBiome(originPos));
-        if (!biomeEntry.hasCaveRootedData())
-            return false;
-
         BiomeDatabase.CaveRootedData caveRootedData = biomeEntry.getCaveRootedData();
         BlockPos groundPos = caveRootedData.shouldGenerateOnSurface() ? groundPositions.get(groundPositions.size() - 1)
                 : getNextGroundPos(originPos, groundPositions).orElse(null);
@@ -55,12 +54,6 @@ public class CaveRootedTreeFeature extends DynamicTreeFeature {
         return result == GeneratorResult.GENERATED;
     }
 
-    private Optional<PoissonDisc> getDisc(LevelContext levelContext, ChunkPos chunkPos, BlockPos originPos) {
-        return DISC_PROVIDER.getPoissonDiscs(levelContext, chunkPos).stream()
-                .filter(disc -> disc.x == originPos.getX() && disc.z == originPos.getZ())
-                .findFirst();
-    }
-
     private Optional<BlockPos> getNextGroundPos(BlockPos originPos, List<BlockPos> groundPositions) {
         for (BlockPos groundPos: groundPositions) {
             if (groundPos.getY() > originPos.getY()) {
@@ -5,13 +5,24 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 
 import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
+ * Holds the {@linkplain JoCode JoCodes} used for world generation of each {@link Species}.
+ *
+ * <p>Codes are registered into a mutable staging area and then {@linkplain #freeze() frozen} into immutable tables
+ * indexed directly by radius, which is what lookups read. Selection of a random code is weighted using an alias table,
+ * so packs can make some codes more common without repeating them, and does not allocate. Freezing also deduplicates
+ * the {@link JoCode#instructions} arrays of codes with identical instructions, so registered codes must not be
+ * {@linkplain JoCode#rotate(net.minecraft.core.Direction) rotated} in place.</p>
+ *
  * @author Harley O'Connor
  */
 public final class JoCodeRegistry {
@@ -19,22 +30,88 @@ public final class JoCodeRegistry {
     private JoCodeRegistry() {
     }
 
-    private static final Map<ResourceLocation, Map<Integer, List<JoCode>>> CODES = new HashMap<>();
-    private static final Map<ResourceLocation, Map<Integer, List<JoCode>>> ROOTS_CODES = new HashMap<>();
+    public static final float DEFAULT_WEIGHT = 1.0F;
 
-    public static void clear() {
+    private static final Map<ResourceLocation, Map<Integer, List<WeightedCode>>> CODES = new HashMap<>();
+    private static final Map<ResourceLocation, Map<Integer, List<WeightedCode>>> ROOTS_CODES = new HashMap<>();
+
+    private static volatile Map<ResourceLocation, CodeTable> frozenCodes = Collections.emptyMap();
+    private static volatile Map<ResourceLocation, CodeTable> frozenRootsCodes = Collections.emptyMap();
+    private static volatile boolean dirty = false;
+
+    public static synchronized void clear() {
         CODES.clear();
         ROOTS_CODES.clear();
+        dirty = true;
     }
 
     public static void register(ResourceLocation speciesName, int radius, JoCode code) {
+        register(speciesName, radius, code, DEFAULT_WEIGHT);
+    }
+
+    public static synchronized void register(ResourceLocation speciesName, int radius, JoCode code, float weight) {
         CODES.computeIfAbsent(speciesName, s -> new HashMap<>())
-                .computeIfAbsent(radius, r -> new ArrayList<>()).add(code);
+                .computeIfAbsent(radius, r -> new ArrayList<>()).add(new WeightedCode(code, weight));
+        dirty = true;
     }
 
     public static void registerRoot(ResourceLocation speciesName, int radius, RootsJoCode code) {
+        registerRoot(speciesName, radius, code, DEFAULT_WEIGHT);
+    }
+
+    public static synchronized void registerRoot(ResourceLocation speciesName, int radius, RootsJoCode code,
+                                                 float weight) {
         ROOTS_CODES.computeIfAbsent(speciesName, s -> new HashMap<>())
-                .computeIfAbsent(radius, r -> new ArrayList<>()).add(code);
+                .computeIfAbsent(radius, r -> new ArrayList<>()).add(new WeightedCode(code, weight));
+        dirty = true;
+    }
+
+    /**
+     * Builds the immutable lookup tables from the registered codes and publishes them. This is called once all codes
+     * have been loaded, but lookups will also freeze the registry themselves if codes were registered since.
+     */
+    public static synchronized void freeze() {
+        final Map<ByteBuffer, byte[]> instructions = new HashMap<>();
+        frozenCodes = freeze(CODES, instructions);
+        frozenRootsCodes = freeze(ROOTS_CODES, instructions);
+        dirty = false;
+    }
+
+    private static Map<ResourceLocation, CodeTable> freeze(Map<ResourceLocation, Map<Integer, List<WeightedCode>>> codes,
+                                                           Map<ByteBuffer, byte[]> instructions) {
+        final Map<ResourceLocation, CodeTable> tables = new HashMap<>();
+        codes.forEach((speciesName, codesByRadius) -> {
+            codesByRadius.values().forEach(weightedCodes -> weightedCodes.forEach(weightedCode ->
+                    weightedCode.code.instructions = instructions.computeIfAbsent(
+                            ByteBuffer.wrap(weightedCode.code.instructions), buffer -> weightedCode.code.instructions)
+            ));
+            tables.put(speciesName, new CodeTable(codesByRadius));
+        });
+        return tables;
+    }
+
+    private static Map<ResourceLocation, CodeTable> getTables(boolean root) {
+        if (dirty) {
+            freeze();
+        }
+        return root ? frozenRootsCodes : frozenCodes;
+    }
+
+    @Nullable
+    private static WeightedCodes getWeightedCodes(ResourceLocation speciesName, int radius, boolean root) {
+        final CodeTable table = getTables(root).get(speciesName);
+        return table == null ? null : table.get(radius);
+    }
+
+    /**
+     * Returns whether any {@linkplain JoCode JoCodes} are registered under the specified {@code speciesName}.
+     *
+     * @param speciesName the name of the {@link Species} to check
+     * @param root        {@code true} to check roots codes
+     * @return {@code true} if the species has codes of the given kind
+     */
+    public static boolean hasCodes(ResourceLocation speciesName, boolean root) {
+        return getTables(root).containsKey(speciesName);
     }
 
     /**
@@ -49,7 +126,8 @@ public final class JoCodeRegistry {
         return getCodes(speciesName, false);
     }
     public static Map<Integer, List<JoCode>> getCodes(ResourceLocation speciesName, boolean root) {
-        return Collections.unmodifiableMap((root?ROOTS_CODES:CODES).getOrDefault(speciesName, new HashMap<>()));
+        final CodeTable table = getTables(root).get(speciesName);
+        return table == null ? Collections.emptyMap() : table.view;
     }
 
     /**
@@ -64,11 +142,13 @@ public final class JoCodeRegistry {
         return getCodes(speciesName, radius, false);
     }
     public static List<JoCode> getCodes(ResourceLocation speciesName, int radius, boolean root) {
-        return Collections.unmodifiableList(getCodes(speciesName, root).getOrDefault(radius, new ArrayList<>()));
+        final WeightedCodes codes = getWeightedCodes(speciesName, radius, root);
+        return codes == null ? Collections.emptyList() : codes.view;
     }
 
     /**
-     * Returns a random code under the specified {@code speciesName} with the specified {@code radius}.
+     * Returns a random code under the specified {@code speciesName} with the specified {@code radius}, weighted by the
+     * weight each code was registered with.
      *
      * @param speciesName the name of the {@link Species} to get the codes for
      * @param radius      the radius of the code to return
@@ -81,12 +161,119 @@ public final class JoCodeRegistry {
     }
     @Nullable
     public static JoCode getRandomCode(ResourceLocation speciesName, int radius, RandomSource random, boolean root) {
-        final List<JoCode> list = getCodes(speciesName, radius, root);
+        final WeightedCodes codes = getWeightedCodes(speciesName, radius, root);
+        return codes == null ? null : codes.select(random);
+    }
+
+    private record WeightedCode(JoCode code, float weight) {
+    }
+
+    /**
+     * The frozen codes for a single species, indexed directly by radius.
+     */
+    private static final class CodeTable {
+        private final WeightedCodes[] byRadius;
+        private final Map<Integer, List<JoCode>> view;
+
+        CodeTable(Map<Integer, List<WeightedCode>> codesByRadius) {
+            final int maxRadius = codesByRadius.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+            this.byRadius = new WeightedCodes[Math.max(maxRadius, 0) + 1];
+
+            final Map<Integer, List<JoCode>> view = new LinkedHashMap<>();
+            codesByRadius.entrySet().stream()
+                    .filter(entry -> entry.getKey() >= 0 && !entry.getValue().isEmpty())
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> {
+                        final WeightedCodes codes = new WeightedCodes(entry.getValue());
+                        this.byRadius[entry.getKey()] = codes;
+                        view.put(entry.getKey(), codes.view);
+                    });
+            this.view = Collections.unmodifiableMap(view);
+        }
+
+        @Nullable
+        WeightedCodes get(int radius) {
+            return radius >= 0 && radius < this.byRadius.length ? this.byRadius[radius] : null;
+        }
+    }
+
+    /**
+     * The codes for a single radius, with a Walker/Vose alias table for constant time weighted selection.
+     */
+    private static final class WeightedCodes {
+        private final JoCode[] codes;
+        private final float[] probabilities;
+        private final int[] aliases;
+        private final boolean uniform;
+        private final List<JoCode> view;
+
+        WeightedCodes(List<WeightedCode> weightedCodes) {
+            final int size = weightedCodes.size();
+            this.codes = new JoCode[size];
+            this.probabilities = new float[size];
+            this.aliases = new int[size];
+
+            double totalWeight = 0;
+            boolean uniform = true;
+            for (int i = 0; i < size; i++) {
+                final WeightedCode weightedCode = weightedCodes.get(i);
+                this.codes[i] = weightedCode.code;
+                totalWeight += Math.max(weightedCode.weight, 0);
+                uniform &= weightedCode.weight == weightedCodes.get(0).weight;
+            }
+            this.uniform = uniform || totalWeight <= 0;
+            this.view = Collections.unmodifiableList(Arrays.asList(this.codes));
+
+            if (!this.uniform) {
+                this.buildAliasTable(weightedCodes, totalWeight);
+            }
+        }
+
+        private void buildAliasTable(List<WeightedCode> weightedCodes, double totalWeight) {
+            final int size = this.codes.length;
+            final double[] scaled = new double[size];
+            final int[] small = new int[size];
+            final int[] large = new int[size];
+            int smallCount = 0;
+            int largeCount = 0;
+
+            for (int i = 0; i < size; i++) {
+                scaled[i] = Math.max(weightedCodes.get(i).weight, 0) * size / totalWeight;
+                if (scaled[i] < 1) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                final int less = small[--smallCount];
+                final int more = large[--largeCount];
+                this.probabilities[less] = (float) scaled[less];
+                this.aliases[less] = more;
+                scaled[more] = (scaled[more] + scaled[less]) - 1;
+                if (scaled[more] < 1) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Anything left over is only due to rounding error, so is always picked.
+            while (largeCount > 0) {
+                this.probabilities[large[--largeCount]] = 1;
+            }
+            while (smallCount > 0) {
+                this.probabilities[small[--smallCount]] = 1;
+            }
+        }
 
-        if (list.isEmpty()) {
-            return null;
+        JoCode select(RandomSource random) {
+            final int index = random.nextInt(this.codes.length);
+            // Uniform selection only draws once, so unweighted packs generate exactly as they did before weighting.
+            if (this.uniform || random.nextFloat() < this.probabilities[index]) {
+                return this.codes[index];
+            }
+            return this.codes[this.aliases[index]];
         }
-        return list.get(random.nextInt(list.size()));
     }
 
 }